@@ -0,0 +1,119 @@
+package binarySearchTree;
+
+// AVL tree: the heights of the two subtrees of every node differ by at most one,
+// which bounds the depth at about 1.44*log2(n). Node.meta holds the height of the node.
+public class AVLTree <T extends Comparable<T>> extends BalancedBinarySearchTree<T>{
+
+    //Add an element, iterative descent then rebalance on the way back up, O(log(n))
+    @Override
+    public boolean add(T elem){
+        if(elem == null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        if(root == null){
+            root = new Node<>(elem, null, 1);
+            nodeCount++;
+            modCount++;
+            return true;
+        }
+        Node <T> parent = root;
+        while(true){
+            int cmp = elem.compareTo(parent.data);
+            //value already exists, don't add it
+            if(cmp == 0)
+                return false;
+            Node <T> next = cmp < 0 ? parent.left : parent.right;
+            if(next == null){
+                Node <T> node = new Node<>(elem, parent, 1);
+                if(cmp < 0)
+                    parent.left = node;
+                else
+                    parent.right = node;
+                break;
+            }
+            parent = next;
+        }
+        rebalanceUpFrom(parent);
+        nodeCount++;
+        modCount++;
+        return true;
+    }
+
+    //Remove an element, O(log(n))
+    @Override
+    public boolean remove(T elem){
+        Node <T> node = findNode(elem);
+        if(node == null)
+            return false;
+        //two children: take the successor's value and remove the successor instead, it has no left child
+        if(node.left != null && node.right != null){
+            Node <T> s = min(node.right);
+            node.data = s.data;
+            node = s;
+        }
+        Node <T> child = node.left != null ? node.left : node.right;
+        Node <T> parent = node.parent;
+        replaceInParent(node, child);
+        node.left = node.right = node.parent = null;
+        node.data = null;
+        rebalanceUpFrom(parent);
+        nodeCount--;
+        modCount++;
+        return true;
+    }
+
+    //fix heights and balance factors from node up to the root
+    private void rebalanceUpFrom(Node <T> node){
+        while(node != null){
+            node = rebalance(node).parent;
+        }
+    }
+
+    //restore the AVL property at node, returns the root of the (possibly rotated) subtree
+    private Node<T> rebalance(Node <T> node){
+        update(node);
+        int bf = balanceFactor(node);
+        //left heavy
+        if(bf > 1){
+            //left-right case
+            if(balanceFactor(node.left) < 0)
+                rotateLeftAndUpdate(node.left);
+            return rotateRightAndUpdate(node);
+        }
+        //right heavy
+        if(bf < -1){
+            //right-left case
+            if(balanceFactor(node.right) > 0)
+                rotateRightAndUpdate(node.right);
+            return rotateLeftAndUpdate(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeftAndUpdate(Node <T> node){
+        Node <T> r = node.right;
+        rotateLeft(node);
+        update(node);
+        update(r);
+        return r;
+    }
+
+    private Node<T> rotateRightAndUpdate(Node <T> node){
+        Node <T> l = node.left;
+        rotateRight(node);
+        update(node);
+        update(l);
+        return l;
+    }
+
+    private static <T> int height(Node <T> node){
+        return node == null ? 0 : node.meta;
+    }
+
+    private static <T> int balanceFactor(Node <T> node){
+        return height(node.left)-height(node.right);
+    }
+
+    private static <T> void update(Node <T> node){
+        node.meta = 1+Math.max(height(node.left), height(node.right));
+    }
+}
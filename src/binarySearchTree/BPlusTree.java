@@ -0,0 +1,372 @@
+package binarySearchTree;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// B+-tree with the add/contains/remove/range API of BinarySearchTree.
+// Every node packs up to fanout-1 keys into one array that is binary searched, so a lookup
+// touches about log_fanout(n) nodes instead of log2(n), and there are no per-key node objects.
+// Only the leaves hold the elements, they are chained left to right so range scans just walk
+// the leaf arrays. Inner nodes hold separators: everything in children[i] is < keys[i] <= everything in children[i+1].
+@SuppressWarnings("unchecked")
+public class BPlusTree <T extends Comparable<T>> implements Iterable<T>{
+
+    private static final int DEFAULT_FANOUT = 64;
+
+    private final int maxKeys;
+    private final int minKeys;
+
+    private Node root;
+    private int height = 1;
+    private int nodeCount = 0;
+    private int modCount = 0;
+
+    // scratch space for the root-to-leaf path of the current add/remove, grown with the height
+    private Inner[] pathNodes = new Inner[8];
+    private int[] pathIndex = new int[8];
+
+    private static abstract class Node{
+        final Object[] keys;
+        int n = 0;
+        Node(int capacity){
+            keys = new Object[capacity];
+        }
+    }
+
+    private static final class Leaf extends Node{
+        Leaf next;
+        Leaf(int capacity){
+            super(capacity);
+        }
+    }
+
+    private static final class Inner extends Node{
+        final Node[] children;
+        Inner(int capacity){
+            super(capacity);
+            children = new Node[capacity+1];
+        }
+    }
+
+    public BPlusTree(){
+        this(DEFAULT_FANOUT);
+    }
+
+    // fanout is the maximum number of children of an inner node (and keys+1 of a leaf)
+    public BPlusTree(int fanout){
+        if(fanout < 4)
+            throw new IllegalArgumentException("Fanout must be at least 4: "+fanout);
+        maxKeys = fanout-1;
+        minKeys = maxKeys/2;
+        root = new Leaf(maxKeys+1);
+    }
+
+    //check if the tree is empty
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    //Get the numbers of elements in the tree
+    public int size(){
+        return nodeCount;
+    }
+
+    //number of levels, a tree with only a leaf has height 1
+    public int height(){
+        return height;
+    }
+
+    //check if a value is in the tree, O(log(n))
+    public boolean contains(T elem){
+        if(elem==null)
+            return false;
+        Node node = root;
+        while(node instanceof Inner)
+            node = ((Inner) node).children[childIndex(node, elem)];
+        return search(node, elem) >= 0;
+    }
+
+    //Add an element, returns false if it was already in the tree, O(log(n))
+    public boolean add(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        Leaf leaf = descend(elem);
+        int pos = search(leaf, elem);
+        if(pos >= 0)
+            return false;
+        insertKey(leaf, -pos-1, elem);
+        nodeCount++;
+        modCount++;
+        if(leaf.n <= maxKeys)
+            return true;
+
+        //the leaf overflowed: split it and push the separator up, splitting parents as needed
+        Leaf rightLeaf = splitLeaf(leaf);
+        Object sep = rightLeaf.keys[0];
+        Node right = rightLeaf;
+        for(int d=height-2; d>=0; d--){
+            Inner parent = pathNodes[d];
+            int i = pathIndex[d];
+            insertKey(parent, i, sep);
+            System.arraycopy(parent.children, i+1, parent.children, i+2, parent.n-i-1);
+            parent.children[i+1] = right;
+            if(parent.n <= maxKeys)
+                return true;
+            Inner rightInner = new Inner(maxKeys+1);
+            sep = splitInner(parent, rightInner);
+            right = rightInner;
+        }
+        //the root itself split, grow a new root on top
+        Inner newRoot = new Inner(maxKeys+1);
+        newRoot.keys[0] = sep;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.n = 1;
+        root = newRoot;
+        height++;
+        return true;
+    }
+
+    //Remove an element, returns false if it wasn't in the tree, O(log(n))
+    public boolean remove(T elem){
+        if(elem==null)
+            return false;
+        Leaf leaf = descend(elem);
+        int pos = search(leaf, elem);
+        if(pos < 0)
+            return false;
+        removeKey(leaf, pos);
+        nodeCount--;
+        modCount++;
+
+        //fix underflows bottom up by borrowing from a sibling or merging with it
+        Node node = leaf;
+        for(int d=height-2; d>=0 && node.n < minKeys; d--){
+            Inner parent = pathNodes[d];
+            int i = pathIndex[d];
+            Node left = i > 0 ? parent.children[i-1] : null;
+            Node right = i < parent.n ? parent.children[i+1] : null;
+            if(node instanceof Leaf){
+                if(left != null && left.n > minKeys){
+                    insertKey(node, 0, left.keys[left.n-1]);
+                    left.keys[--left.n] = null;
+                    parent.keys[i-1] = node.keys[0];
+                }
+                else if(right != null && right.n > minKeys){
+                    node.keys[node.n++] = right.keys[0];
+                    removeKey(right, 0);
+                    parent.keys[i] = right.keys[0];
+                }
+                else if(left != null){
+                    mergeLeaves((Leaf) left, (Leaf) node);
+                    removeChild(parent, i-1);
+                }
+                else{
+                    mergeLeaves((Leaf) node, (Leaf) right);
+                    removeChild(parent, i);
+                }
+            }
+            else{
+                Inner inner = (Inner) node;
+                if(left != null && left.n > minKeys){
+                    Inner l = (Inner) left;
+                    System.arraycopy(inner.children, 0, inner.children, 1, inner.n+1);
+                    insertKey(inner, 0, parent.keys[i-1]);
+                    inner.children[0] = l.children[l.n];
+                    l.children[l.n] = null;
+                    parent.keys[i-1] = l.keys[l.n-1];
+                    l.keys[--l.n] = null;
+                }
+                else if(right != null && right.n > minKeys){
+                    Inner r = (Inner) right;
+                    inner.keys[inner.n] = parent.keys[i];
+                    inner.children[inner.n+1] = r.children[0];
+                    inner.n++;
+                    parent.keys[i] = r.keys[0];
+                    System.arraycopy(r.children, 1, r.children, 0, r.n);
+                    r.children[r.n] = null;
+                    removeKey(r, 0);
+                }
+                else if(left != null){
+                    mergeInner((Inner) left, parent.keys[i-1], inner);
+                    removeChild(parent, i-1);
+                }
+                else{
+                    mergeInner(inner, parent.keys[i], (Inner) right);
+                    removeChild(parent, i);
+                }
+            }
+            node = parent;
+        }
+        //an empty inner root is replaced by its only child
+        if(root instanceof Inner && root.n == 0){
+            root = ((Inner) root).children[0];
+            height--;
+        }
+        return true;
+    }
+
+    //in-order iterator over the whole tree, walks the leaf chain
+    @Override
+    public Iterator<T> iterator(){
+        Node node = root;
+        while(node instanceof Inner)
+            node = ((Inner) node).children[0];
+        return new LeafIterator((Leaf) node, 0, null);
+    }
+
+    //in-order iterator over the elements in [lo, hi]: one descent to lo, then a sequential leaf scan
+    public Iterator<T> iterator(T lo, T hi){
+        if(lo==null || hi==null)
+            throw new IllegalArgumentException("Range bounds can't be null");
+        Node node = root;
+        while(node instanceof Inner)
+            node = ((Inner) node).children[childIndex(node, lo)];
+        int pos = search(node, lo);
+        return new LeafIterator((Leaf) node, pos >= 0 ? pos : -pos-1, hi);
+    }
+
+    //walk down to the leaf that should hold elem, recording the path for add/remove
+    private Leaf descend(T elem){
+        if(pathNodes.length < height){
+            pathNodes = new Inner[height*2];
+            pathIndex = new int[height*2];
+        }
+        Node node = root;
+        int depth = 0;
+        while(node instanceof Inner){
+            int i = childIndex(node, elem);
+            pathNodes[depth] = (Inner) node;
+            pathIndex[depth] = i;
+            depth++;
+            node = ((Inner) node).children[i];
+        }
+        return (Leaf) node;
+    }
+
+    //index of the child of an inner node to follow: number of separators <= elem
+    private int childIndex(Node node, T elem){
+        int lo = 0, hi = node.n;
+        while(lo < hi){
+            int mid = (lo+hi) >>> 1;
+            if(((T) node.keys[mid]).compareTo(elem) <= 0)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    //binary search in a node, returns the index of elem or -(insertion point)-1 like Arrays.binarySearch
+    private int search(Node node, T elem){
+        int lo = 0, hi = node.n-1;
+        while(lo <= hi){
+            int mid = (lo+hi) >>> 1;
+            int cmp = ((T) node.keys[mid]).compareTo(elem);
+            if(cmp < 0)
+                lo = mid+1;
+            else if(cmp > 0)
+                hi = mid-1;
+            else
+                return mid;
+        }
+        return -(lo+1);
+    }
+
+    private static void insertKey(Node node, int pos, Object key){
+        System.arraycopy(node.keys, pos, node.keys, pos+1, node.n-pos);
+        node.keys[pos] = key;
+        node.n++;
+    }
+
+    private static void removeKey(Node node, int pos){
+        System.arraycopy(node.keys, pos+1, node.keys, pos, node.n-pos-1);
+        node.keys[--node.n] = null;
+    }
+
+    //drop separator i and child i+1 of an inner node
+    private static void removeChild(Inner parent, int i){
+        System.arraycopy(parent.children, i+2, parent.children, i+1, parent.n-i-1);
+        parent.children[parent.n] = null;
+        removeKey(parent, i);
+    }
+
+    //move the upper half of a full leaf into a new right sibling
+    private Leaf splitLeaf(Leaf leaf){
+        Leaf right = new Leaf(maxKeys+1);
+        int mid = leaf.n/2;
+        right.n = leaf.n-mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.n);
+        java.util.Arrays.fill(leaf.keys, mid, leaf.n, null);
+        leaf.n = mid;
+        right.next = leaf.next;
+        leaf.next = right;
+        return right;
+    }
+
+    //move the upper half of a full inner node into right, returns the separator that goes up a level
+    private static Object splitInner(Inner node, Inner right){
+        int mid = node.n/2;
+        Object sep = node.keys[mid];
+        right.n = node.n-mid-1;
+        System.arraycopy(node.keys, mid+1, right.keys, 0, right.n);
+        System.arraycopy(node.children, mid+1, right.children, 0, right.n+1);
+        java.util.Arrays.fill(node.keys, mid, node.n, null);
+        java.util.Arrays.fill(node.children, mid+1, node.n+1, null);
+        node.n = mid;
+        return sep;
+    }
+
+    //append right's keys to left and unlink right from the leaf chain
+    private static void mergeLeaves(Leaf left, Leaf right){
+        System.arraycopy(right.keys, 0, left.keys, left.n, right.n);
+        left.n += right.n;
+        left.next = right.next;
+    }
+
+    //append the separator and right's keys/children to left
+    private static void mergeInner(Inner left, Object sep, Inner right){
+        left.keys[left.n] = sep;
+        System.arraycopy(right.keys, 0, left.keys, left.n+1, right.n);
+        System.arraycopy(right.children, 0, left.children, left.n+1, right.n+1);
+        left.n += right.n+1;
+    }
+
+    private class LeafIterator implements Iterator<T>{
+        private Leaf leaf;
+        private int pos;
+        private final T hi;
+        private final int expectedModCount = modCount;
+
+        LeafIterator(Leaf leaf, int pos, T hi){
+            this.leaf = leaf;
+            this.pos = pos;
+            this.hi = hi;
+            skipExhausted();
+        }
+
+        private void skipExhausted(){
+            while(leaf != null && pos >= leaf.n){
+                leaf = leaf.next;
+                pos = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext(){
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return leaf != null && (hi == null || ((T) leaf.keys[pos]).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next(){
+            if(!hasNext())
+                throw new NoSuchElementException();
+            T data = (T) leaf.keys[pos++];
+            skipExhausted();
+            return data;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package binarySearchTree;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Self-balancing counterpart of BinarySearchTree with the same add/contains/size API plus remove.
+// The depth stays O(log(n)) even when keys arrive already sorted, and add/remove/contains are
+// iterative (nodes keep a parent pointer so we can walk back up), so deep trees can't blow the stack.
+// Pick the balancing scheme with create(Balancing.AVL) or create(Balancing.RED_BLACK):
+// AVL trees are more strictly balanced (faster lookups), red-black trees rotate less on updates.
+public abstract class BalancedBinarySearchTree <T extends Comparable<T>> implements Iterable<T>{
+
+    public enum Balancing { AVL, RED_BLACK }
+
+    public static <T extends Comparable<T>> BalancedBinarySearchTree<T> create(Balancing balancing){
+        if(balancing == Balancing.AVL)
+            return new AVLTree<>();
+        return new RedBlackTree<>();
+    }
+
+    //tracks the number of nodes in the tree
+    int nodeCount = 0;
+
+    //bumped on every structural change so iterators can fail fast
+    int modCount = 0;
+
+    Node <T> root = null;
+
+    //internal node, meta is the height for AVL trees and the color for red-black trees
+    static final class Node <T>{
+        T data;
+        Node <T> left, right, parent;
+        int meta;
+        Node(T data, Node <T> parent, int meta){
+            this.data = data;
+            this.parent = parent;
+            this.meta = meta;
+        }
+    }
+
+    //check if the tree is empty
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    //Get the numbers of node in the tree
+    public int size(){
+        return nodeCount;
+    }
+
+    //Add an element, returns false if it was already in the tree, O(log(n))
+    public abstract boolean add(T elem);
+
+    //Remove an element, returns false if it wasn't in the tree, O(log(n))
+    public abstract boolean remove(T elem);
+
+    //check if an element is in the tree, O(log(n))
+    public boolean contains(T elem){
+        return findNode(elem) != null;
+    }
+
+    //height of the tree (number of nodes on the longest root-to-leaf path), O(n)
+    public int height(){
+        if(root == null)
+            return 0;
+        // iterative depth first walk so this is safe on any tree
+        java.util.ArrayDeque<Node<T>> nodes = new java.util.ArrayDeque<>();
+        java.util.ArrayDeque<Integer> depths = new java.util.ArrayDeque<>();
+        nodes.push(root);
+        depths.push(1);
+        int max = 0;
+        while(!nodes.isEmpty()){
+            Node <T> node = nodes.pop();
+            int depth = depths.pop();
+            max = Math.max(max, depth);
+            if(node.left != null){
+                nodes.push(node.left);
+                depths.push(depth+1);
+            }
+            if(node.right != null){
+                nodes.push(node.right);
+                depths.push(depth+1);
+            }
+        }
+        return max;
+    }
+
+    Node <T> findNode(T elem){
+        if(elem == null)
+            return null;
+        Node <T> trav = root;
+        while(trav != null){
+            int cmp = elem.compareTo(trav.data);
+            if(cmp == 0)
+                return trav;
+            trav = cmp < 0 ? trav.left : trav.right;
+        }
+        return null;
+    }
+
+    //leftmost node in the subtree rooted at node
+    static <T> Node<T> min(Node <T> node){
+        while(node.left != null)
+            node = node.left;
+        return node;
+    }
+
+    //in-order successor using parent pointers
+    static <T> Node<T> successor(Node <T> node){
+        if(node.right != null)
+            return min(node.right);
+        Node <T> parent = node.parent;
+        while(parent != null && node == parent.right){
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    //node.right takes node's place, node becomes its left child
+    void rotateLeft(Node <T> node){
+        Node <T> r = node.right;
+        node.right = r.left;
+        if(r.left != null)
+            r.left.parent = node;
+        replaceInParent(node, r);
+        r.left = node;
+        node.parent = r;
+    }
+
+    //node.left takes node's place, node becomes its right child
+    void rotateRight(Node <T> node){
+        Node <T> l = node.left;
+        node.left = l.right;
+        if(l.right != null)
+            l.right.parent = node;
+        replaceInParent(node, l);
+        l.right = node;
+        node.parent = l;
+    }
+
+    //hang replacement where node used to be
+    void replaceInParent(Node <T> node, Node <T> replacement){
+        Node <T> parent = node.parent;
+        if(replacement != null)
+            replacement.parent = parent;
+        if(parent == null)
+            root = replacement;
+        else if(parent.left == node)
+            parent.left = replacement;
+        else
+            parent.right = replacement;
+    }
+
+    //in-order iterator, elements come out sorted
+    @Override
+    public Iterator<T> iterator(){
+        return new Iterator<T>(){
+            private Node <T> next = root == null ? null : min(root);
+            private final int expectedModCount = modCount;
+            @Override
+            public boolean hasNext(){
+                return next != null;
+            }
+            @Override
+            public T next(){
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(next == null)
+                    throw new NoSuchElementException();
+                T data = next.data;
+                next = successor(next);
+                return data;
+            }
+        };
+    }
+}
@@ -1,17 +1,44 @@
 package binarySearchTree;
 
-public class BinarySearchTree <T extends Comparable<T>>{
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class BinarySearchTree <T extends Comparable<T>> implements Iterable<T>{
+
+    //snapshot file layout: [magic:int][count:int] then one record per node in pre-order,
+    //[flags:byte][length:int][key bytes] where flags tells whether the node has a left/right child
+    private static final int SNAPSHOT_MAGIC = 0x42535453; // "BSTS"
+    private static final int HAS_LEFT = 1, HAS_RIGHT = 2;
 
     //tracks the number of nodes in binary tree
     private int nodeCount = 0;
 
+    //bumped on every structural change so iterators can fail fast
+    private int modCount = 0;
+
     //this BST is rooted tree, so we maintain a handle on the root node
     private Node root = null;
 
-    //internal node containing node references and actual node data
+    //scratch space for add/remove: the nodes on the current search path, whose subtree sizes
+    //are only fixed once we know the tree really changes
+    private final ArrayList<Node> path = new ArrayList<>();
+
+    //internal node containing node references, actual node data and the size of the subtree rooted here
     private class Node{
         T data;
         Node left, right;
+        int size = 1;
         public Node(Node left, Node right, T elem){
             this.data = elem;
             this.left = left;
@@ -30,29 +57,425 @@ public class BinarySearchTree <T extends Comparable<T>>{
     }
 
     //Add an element to binary tree, and it will return true if we have successfully added the element
+    //a single root-to-leaf descent that records its path, the subtree sizes along it are bumped
+    //only once the new node is actually hung, so a duplicate costs no writes at all
     public boolean add(T elem){
-        //if value already exists in binary search tree, ignore it, don't add it.
-        if(contains(elem))
-            return false;
-        //if value doesn't exist add it to binary tree
-        else{
-            root = add(root, elem);
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        if(root==null){
+            root = new Node(null, null, elem);
             nodeCount++;
+            modCount++;
             return true;
         }
+        //a compareTo that threw could have left a stale path behind
+        path.clear();
+        Node trav = root;
+        while(true){
+            int cmp = elem.compareTo(trav.data);
+            //if value already exists in binary search tree, ignore it, don't add it.
+            if(cmp==0){
+                path.clear();
+                return false;
+            }
+            path.add(trav);
+            Node next = cmp<0 ? trav.left : trav.right;
+            //found a leaf position, hang the new node here
+            if(next==null){
+                if(cmp<0)
+                    trav.left = new Node(null, null, elem);
+                else
+                    trav.right = new Node(null, null, elem);
+                fixPathSizes(+1);
+                nodeCount++;
+                modCount++;
+                return true;
+            }
+            trav = next;
+        }
     }
 
-    //private method to recursively add a value to binary tree
-    private Node add(Node node, T elem){
-        //base case: found a leaf node
-        if(node==null)
-            node = new Node(null, null, elem);
+    //Remove an element from binary tree, returns true if it was there, O(height)
+    public boolean remove(T elem){
+        if(elem==null)
+            return false;
+        path.clear();
+        Node parent = null, trav = root;
+        while(trav!=null){
+            int cmp = elem.compareTo(trav.data);
+            if(cmp==0)
+                break;
+            path.add(trav);
+            parent = trav;
+            trav = cmp<0 ? trav.left : trav.right;
+        }
+        //not found, nothing was written
+        if(trav==null){
+            path.clear();
+            return false;
+        }
+        fixPathSizes(-1);
+        if(trav.left!=null && trav.right!=null){
+            //two children: copy the successor (leftmost node of the right subtree) here and unlink it instead
+            trav.size--;
+            Node succParent = trav, succ = trav.right;
+            while(succ.left!=null){
+                succ.size--;
+                succParent = succ;
+                succ = succ.left;
+            }
+            trav.data = succ.data;
+            if(succParent==trav)
+                succParent.right = succ.right;
+            else
+                succParent.left = succ.right;
+            succ.data = null;
+            succ.right = null;
+        }
         else{
-            if(elem.compareTo(node.data)<0)
-                node.left = add(node.left, elem);
+            //zero or one child: the child takes the node's place
+            Node child = trav.left!=null ? trav.left : trav.right;
+            if(parent==null)
+                root = child;
+            else if(parent.left==trav)
+                parent.left = child;
             else
-                node.right = add(node.right, elem);
+                parent.right = child;
+            trav.data = null;
+            trav.left = trav.right = null;
         }
+        nodeCount--;
+        modCount++;
+        return true;
+    }
+
+    //check if a value is in the binary tree
+    public boolean contains(T elem){
+        return getNode(elem)!=null;
+    }
+
+    //return the stored element equal to elem, handy when the ordering only looks at a key inside T
+    public T get(T elem){
+        Node node = getNode(elem);
+        return node==null ? null : node.data;
+    }
+
+    //smallest element, or null if the tree is empty
+    public T min(){
+        if(root==null)
+            return null;
+        Node trav = root;
+        while(trav.left!=null)
+            trav = trav.left;
+        return trav.data;
+    }
+
+    //largest element, or null if the tree is empty
+    public T max(){
+        if(root==null)
+            return null;
+        Node trav = root;
+        while(trav.right!=null)
+            trav = trav.right;
+        return trav.data;
+    }
+
+    //largest element <= elem, or null if there is none
+    public T floor(T elem){
+        return below(elem, true);
+    }
+
+    //largest element < elem, or null if there is none
+    public T lower(T elem){
+        return below(elem, false);
+    }
+
+    //smallest element >= elem, or null if there is none
+    public T ceiling(T elem){
+        return above(elem, true);
+    }
+
+    //smallest element > elem, or null if there is none
+    public T higher(T elem){
+        return above(elem, false);
+    }
+
+    //number of elements strictly smaller than elem, O(height) using the subtree sizes
+    public int rank(T elem){
+        int rank = 0;
+        Node trav = root;
+        while(trav!=null){
+            int cmp = elem.compareTo(trav.data);
+            if(cmp<0)
+                trav = trav.left;
+            else if(cmp>0){
+                rank += 1+size(trav.left);
+                trav = trav.right;
+            }
+            else
+                return rank+size(trav.left);
+        }
+        return rank;
+    }
+
+    //the k-th smallest element (0 based), O(height) using the subtree sizes
+    public T select(int k){
+        if(k<0 || k>=nodeCount)
+            throw new IndexOutOfBoundsException("Index: "+k+", Size: "+nodeCount);
+        Node trav = root;
+        while(true){
+            int leftSize = size(trav.left);
+            if(k<leftSize)
+                trav = trav.left;
+            else if(k>leftSize){
+                k -= leftSize+1;
+                trav = trav.right;
+            }
+            else
+                return trav.data;
+        }
+    }
+
+    //replace the contents of the tree with a perfectly balanced tree built from strictly increasing
+    //elements, O(n) and no comparisons beyond the ordering check, much faster than n calls to add()
+    public void bulkLoad(List<T> sorted){
+        //one copy up front, so a LinkedList input is still O(n) and can't change under us
+        Object[] elems = sorted.toArray();
+        for(int i=0; i<elems.length; i++){
+            if(elems[i]==null)
+                throw new IllegalArgumentException("Null elements are not allowed, check index "+i);
+            if(i>0 && elem(elems, i-1).compareTo(elem(elems, i))>=0)
+                throw new IllegalArgumentException("Input must be sorted with no duplicates, check index "+i);
+        }
+        root = build(elems, 0, elems.length-1);
+        nodeCount = elems.length;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elem(Object[] elems, int i){
+        return (T) elems[i];
+    }
+
+    //middle element becomes the root, recursion depth is only log2(n)
+    private Node build(Object[] elems, int lo, int hi){
+        if(lo>hi)
+            return null;
+        int mid = (lo+hi) >>> 1;
+        Node node = new Node(build(elems, lo, mid-1), build(elems, mid+1, hi), elem(elems, mid));
+        node.size = hi-lo+1;
         return node;
     }
-}
\ No newline at end of file
+
+    //write the tree shape and keys to file in pre-order, so it can be loaded back without any comparisons
+    public void writeSnapshot(Path file, KeyCodec<T> codec){
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16);
+            buf.putInt(SNAPSHOT_MAGIC).putInt(nodeCount);
+            ArrayDeque<Node> stack = new ArrayDeque<>();
+            if(root!=null)
+                stack.push(root);
+            while(!stack.isEmpty()){
+                Node node = stack.pop();
+                int length = codec.encodedLength(node.data);
+                //flush when the record doesn't fit, and make room for keys bigger than the buffer
+                if(buf.remaining() < 5+length){
+                    flush(channel, buf);
+                    if(buf.capacity() < 5+length)
+                        buf = ByteBuffer.allocateDirect(5+length);
+                }
+                buf.put((byte) ((node.left!=null ? HAS_LEFT : 0) | (node.right!=null ? HAS_RIGHT : 0)));
+                buf.putInt(length);
+                int start = buf.position();
+                codec.encode(node.data, buf);
+                if(buf.position()-start != length)
+                    throw new IllegalStateException("KeyCodec wrote "+(buf.position()-start)+" bytes, expected "+length);
+                if(node.right!=null)
+                    stack.push(node.right);
+                if(node.left!=null)
+                    stack.push(node.left);
+            }
+            flush(channel, buf);
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //memory-map a snapshot written by writeSnapshot and rebuild the exact same tree, O(n) and no comparisons
+    public static <T extends Comparable<T>> BinarySearchTree<T> readSnapshot(Path file, KeyCodec<T> codec){
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            if(channel.size() > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Snapshot larger than 2GB: "+file);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buf.getInt() != SNAPSHOT_MAGIC)
+                throw new IllegalArgumentException("Not a BinarySearchTree snapshot: "+file);
+            BinarySearchTree<T> tree = new BinarySearchTree<>();
+            tree.readNodes(buf, buf.getInt(), codec);
+            return tree;
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //rebuild the tree from count pre-order records starting at the buffer's position
+    private void readNodes(ByteBuffer buf, int count, KeyCodec<T> codec){
+        //nodes in pre-order, used afterwards to fill in the subtree sizes bottom up
+        ArrayList<Node> order = new ArrayList<>(count);
+        //nodes whose right child hasn't been read yet
+        ArrayDeque<Node> needRight = new ArrayDeque<>();
+        Node attachTo = null;
+        boolean asLeft = false;
+        for(int i=0; i<count; i++){
+            int flags = buf.get();
+            int length = buf.getInt();
+            int end = buf.position()+length;
+            Node node = new Node(null, null, codec.decode(buf, length));
+            buf.position(end);
+            order.add(node);
+            if(i==0)
+                root = node;
+            else if(asLeft)
+                attachTo.left = node;
+            else
+                attachTo.right = node;
+            if((flags & HAS_RIGHT)!=0)
+                needRight.push(node);
+            //in pre-order the next record is our left child if we have one,
+            //otherwise it is the right child of the latest node still missing one
+            if((flags & HAS_LEFT)!=0){
+                attachTo = node;
+                asLeft = true;
+            }
+            else if(!needRight.isEmpty()){
+                attachTo = needRight.pop();
+                asLeft = false;
+            }
+        }
+        //children come after their parent in pre-order, so a reverse pass sees them first
+        for(int i=count-1; i>=0; i--){
+            Node node = order.get(i);
+            node.size = 1+size(node.left)+size(node.right);
+        }
+        nodeCount = count;
+        modCount++;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buf) throws IOException{
+        buf.flip();
+        while(buf.hasRemaining())
+            channel.write(buf);
+        buf.clear();
+    }
+
+    //in-order iterator over the whole tree
+    @Override
+    public Iterator<T> iterator(){
+        return new RangeIterator(null, null);
+    }
+
+    //in-order iterator over the elements in [lo, hi]. Only the path down to lo and the nodes
+    //inside the range are visited, so the cost is O(height + number of results)
+    public Iterator<T> iterator(T lo, T hi){
+        if(lo==null || hi==null)
+            throw new IllegalArgumentException("Range bounds can't be null");
+        return new RangeIterator(lo, hi);
+    }
+
+    private int size(Node node){
+        return node==null ? 0 : node.size;
+    }
+
+    private Node getNode(T elem){
+        if(elem==null)
+            return null;
+        Node trav = root;
+        while(trav!=null){
+            int cmp = elem.compareTo(trav.data);
+            if(cmp==0)
+                return trav;
+            trav = cmp<0 ? trav.left : trav.right;
+        }
+        return null;
+    }
+
+    //add delta to the size of every node recorded on the search path, then forget the path
+    private void fixPathSizes(int delta){
+        for(int i=0; i<path.size(); i++)
+            path.get(i).size += delta;
+        path.clear();
+    }
+
+    private T below(T elem, boolean inclusive){
+        T best = null;
+        Node trav = root;
+        while(trav!=null){
+            int cmp = elem.compareTo(trav.data);
+            if(cmp==0 && inclusive)
+                return trav.data;
+            if(cmp>0){
+                best = trav.data;
+                trav = trav.right;
+            }
+            else
+                trav = trav.left;
+        }
+        return best;
+    }
+
+    private T above(T elem, boolean inclusive){
+        T best = null;
+        Node trav = root;
+        while(trav!=null){
+            int cmp = elem.compareTo(trav.data);
+            if(cmp==0 && inclusive)
+                return trav.data;
+            if(cmp<0){
+                best = trav.data;
+                trav = trav.left;
+            }
+            else
+                trav = trav.right;
+        }
+        return best;
+    }
+
+    //iterative in-order traversal with an explicit stack, optionally bounded by [lo, hi]
+    private class RangeIterator implements Iterator<T>{
+        private final ArrayDeque<Node> stack = new ArrayDeque<>();
+        private final T hi;
+        private final int expectedModCount = modCount;
+
+        RangeIterator(T lo, T hi){
+            this.hi = hi;
+            //walk down towards lo, keeping only the nodes >= lo
+            Node trav = root;
+            while(trav!=null){
+                if(lo!=null && trav.data.compareTo(lo)<0)
+                    trav = trav.right;
+                else{
+                    stack.push(trav);
+                    trav = trav.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext(){
+            if(modCount!=expectedModCount)
+                throw new ConcurrentModificationException();
+            return !stack.isEmpty() && (hi==null || stack.peek().data.compareTo(hi)<=0);
+        }
+
+        @Override
+        public T next(){
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Node node = stack.pop();
+            for(Node trav = node.right; trav!=null; trav = trav.left)
+                stack.push(trav);
+            return node.data;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package binarySearchTree;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+// Lock-free ordered set (skip list) for many readers and concurrent writers, no locks anywhere.
+//
+// Every node has a tower of next references, each with a mark bit. remove() first marks the
+// node's references top to bottom (marking level 0 is the moment it is logically removed),
+// then add/remove traversals unlink marked nodes as they pass them.
+//
+// contains() is wait-free: it only reads, never retries and never helps unlink, it just steps
+// over marked nodes, so readers never block or spin no matter what writers are doing.
+// Iterators are weakly consistent: they walk level 0, skip removed nodes, never throw
+// ConcurrentModificationException and may or may not see updates made after they were created.
+public class ConcurrentOrderedSet <T extends Comparable<T>> implements Iterable<T>{
+
+    private static final int MAX_LEVEL = 31;
+
+    private static final class Node <T>{
+        final T data;
+        final AtomicMarkableReference<Node<T>>[] next;
+        final int topLevel;
+
+        @SuppressWarnings("unchecked")
+        Node(T data, int topLevel){
+            this.data = data;
+            this.topLevel = topLevel;
+            next = (AtomicMarkableReference<Node<T>>[]) new AtomicMarkableReference<?>[topLevel+1];
+            for(int i=0; i<=topLevel; i++)
+                next[i] = new AtomicMarkableReference<>(null, false);
+        }
+    }
+
+    // head sentinel, it sorts before everything; a null next reference means the end of the level
+    private final Node <T> head = new Node<>(null, MAX_LEVEL);
+
+    // maintained with a counter, so size() is exact only when the set is quiescent
+    private final AtomicInteger nodeCount = new AtomicInteger();
+
+    public int size(){
+        return nodeCount.get();
+    }
+
+    public boolean isEmpty(){
+        return head.next[0].getReference() == null;
+    }
+
+    //Add an element, returns false if it was already in the set, lock-free
+    public boolean add(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        int topLevel = randomLevel();
+        Node <T>[] preds = newTower();
+        Node <T>[] succs = newTower();
+        while(true){
+            if(find(elem, preds, succs))
+                return false;
+            Node <T> node = new Node<>(elem, topLevel);
+            for(int level=0; level<=topLevel; level++)
+                node.next[level].set(succs[level], false);
+            //linking at level 0 is what makes the element part of the set
+            if(!preds[0].next[0].compareAndSet(succs[0], node, false, false))
+                continue;
+            nodeCount.incrementAndGet();
+            //the upper levels are only shortcuts, link them one by one
+            for(int level=1; level<=topLevel; level++){
+                while(true){
+                    Node <T> succ = succs[level];
+                    boolean[] marked = {false};
+                    Node <T> current = node.next[level].get(marked);
+                    //someone is already removing the new node, stop building its tower
+                    if(marked[0])
+                        return true;
+                    if(current != succ && !node.next[level].compareAndSet(current, succ, false, false))
+                        return true;
+                    if(preds[level].next[level].compareAndSet(succ, node, false, false))
+                        break;
+                    find(elem, preds, succs);
+                }
+            }
+            return true;
+        }
+    }
+
+    //Remove an element, returns false if it wasn't in the set, lock-free
+    public boolean remove(T elem){
+        if(elem==null)
+            return false;
+        Node <T>[] preds = newTower();
+        Node <T>[] succs = newTower();
+        if(!find(elem, preds, succs))
+            return false;
+        Node <T> node = succs[0];
+        boolean[] marked = {false};
+        //mark the upper levels top down
+        for(int level=node.topLevel; level>=1; level--){
+            Node <T> succ = node.next[level].get(marked);
+            while(!marked[0]){
+                node.next[level].compareAndSet(succ, succ, false, true);
+                succ = node.next[level].get(marked);
+            }
+        }
+        //whoever marks level 0 is the one that removed it
+        Node <T> succ = node.next[0].get(marked);
+        while(true){
+            boolean iMarkedIt = node.next[0].compareAndSet(succ, succ, false, true);
+            succ = node.next[0].get(marked);
+            if(iMarkedIt){
+                nodeCount.decrementAndGet();
+                //physically unlink it
+                find(elem, preds, succs);
+                return true;
+            }
+            else if(marked[0])
+                return false;
+        }
+    }
+
+    //check if a value is in the set, wait-free
+    public boolean contains(T elem){
+        if(elem==null)
+            return false;
+        Node <T> curr = lowerBound(elem);
+        return curr != null && curr.data.compareTo(elem) == 0;
+    }
+
+    //weakly consistent iterator over the whole set, in order
+    @Override
+    public Iterator<T> iterator(){
+        return new WeakIterator(head.next[0].getReference(), null);
+    }
+
+    //weakly consistent iterator over the elements in [lo, hi]
+    public Iterator<T> iterator(T lo, T hi){
+        if(lo==null || hi==null)
+            throw new IllegalArgumentException("Range bounds can't be null");
+        return new WeakIterator(lowerBound(lo), hi);
+    }
+
+    //first unmarked node >= elem (or null), read-only walk that steps over marked nodes
+    private Node<T> lowerBound(T elem){
+        boolean[] marked = {false};
+        Node <T> pred = head;
+        Node <T> curr = null;
+        for(int level=MAX_LEVEL; level>=0; level--){
+            curr = pred.next[level].getReference();
+            while(curr != null){
+                Node <T> succ = curr.next[level].get(marked);
+                if(marked[0]){
+                    curr = succ;
+                    continue;
+                }
+                if(curr.data.compareTo(elem) < 0){
+                    pred = curr;
+                    curr = succ;
+                }
+                else
+                    break;
+            }
+        }
+        return curr;
+    }
+
+    //fill preds/succs with the nodes around elem on every level, unlinking marked nodes on the way.
+    //returns true if an unmarked node with elem was found at level 0
+    private boolean find(T elem, Node <T>[] preds, Node <T>[] succs){
+        boolean[] marked = {false};
+        retry:
+        while(true){
+            Node <T> pred = head;
+            Node <T> curr = null;
+            for(int level=MAX_LEVEL; level>=0; level--){
+                curr = pred.next[level].getReference();
+                while(curr != null){
+                    Node <T> succ = curr.next[level].get(marked);
+                    if(marked[0]){
+                        //curr is being removed, help by unlinking it here
+                        if(!pred.next[level].compareAndSet(curr, succ, false, false))
+                            continue retry;
+                        curr = succ;
+                        continue;
+                    }
+                    if(curr.data.compareTo(elem) < 0){
+                        pred = curr;
+                        curr = succ;
+                    }
+                    else
+                        break;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && curr.data.compareTo(elem) == 0;
+        }
+    }
+
+    //geometric level distribution with p = 1/2
+    private static int randomLevel(){
+        int level = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL));
+        return Math.min(level, MAX_LEVEL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newTower(){
+        return (Node<T>[]) new Node<?>[MAX_LEVEL+1];
+    }
+
+    private class WeakIterator implements Iterator<T>{
+        private Node <T> next;
+        private final T hi;
+
+        WeakIterator(Node <T> start, T hi){
+            this.hi = hi;
+            next = skipRemoved(start);
+        }
+
+        private Node<T> skipRemoved(Node <T> node){
+            while(node != null && node.next[0].isMarked())
+                node = node.next[0].getReference();
+            if(node != null && hi != null && node.data.compareTo(hi) > 0)
+                return null;
+            return node;
+        }
+
+        @Override
+        public boolean hasNext(){
+            return next != null;
+        }
+
+        @Override
+        public T next(){
+            if(next == null)
+                throw new NoSuchElementException();
+            T data = next.data;
+            next = skipRemoved(next.next[0].getReference());
+            return data;
+        }
+    }
+}
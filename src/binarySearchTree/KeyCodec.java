@@ -0,0 +1,41 @@
+package binarySearchTree;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// variable-length encoding of a key for BinarySearchTree snapshots.
+// the snapshot stores the length in front of every key, so decode is told how many bytes belong to it.
+public interface KeyCodec <T>{
+
+    // number of bytes encode will write for key
+    int encodedLength(T key);
+
+    // write key at the buffer's position, exactly encodedLength(key) bytes
+    void encode(T key, ByteBuffer buf);
+
+    // read a key of length bytes from the buffer's position
+    T decode(ByteBuffer buf, int length);
+
+    KeyCodec<Integer> INTEGER = new KeyCodec<Integer>() {
+        @Override public int encodedLength(Integer key){ return Integer.BYTES; }
+        @Override public void encode(Integer key, ByteBuffer buf){ buf.putInt(key); }
+        @Override public Integer decode(ByteBuffer buf, int length){ return buf.getInt(); }
+    };
+
+    KeyCodec<Long> LONG = new KeyCodec<Long>() {
+        @Override public int encodedLength(Long key){ return Long.BYTES; }
+        @Override public void encode(Long key, ByteBuffer buf){ buf.putLong(key); }
+        @Override public Long decode(ByteBuffer buf, int length){ return buf.getLong(); }
+    };
+
+    // UTF-8, encodedLength has to encode once to know the size so prefer fixed-width keys in hot paths
+    KeyCodec<String> STRING = new KeyCodec<String>() {
+        @Override public int encodedLength(String key){ return key.getBytes(StandardCharsets.UTF_8).length; }
+        @Override public void encode(String key, ByteBuffer buf){ buf.put(key.getBytes(StandardCharsets.UTF_8)); }
+        @Override public String decode(ByteBuffer buf, int length){
+            byte[] bytes = new byte[length];
+            buf.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+}
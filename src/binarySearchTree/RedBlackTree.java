@@ -0,0 +1,204 @@
+package binarySearchTree;
+
+// Red-black tree: no red node has a red child and every root-to-leaf path has the same number
+// of black nodes, which bounds the depth at 2*log2(n+1). Node.meta holds the color.
+// Updates need at most two rotations (insert) or three (remove), the rest is recoloring.
+public class RedBlackTree <T extends Comparable<T>> extends BalancedBinarySearchTree<T>{
+
+    private static final int RED = 0;
+    private static final int BLACK = 1;
+
+    //Add an element, iterative descent then fix the colors on the way up, O(log(n))
+    @Override
+    public boolean add(T elem){
+        if(elem == null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        if(root == null){
+            root = new Node<>(elem, null, BLACK);
+            nodeCount++;
+            modCount++;
+            return true;
+        }
+        Node <T> parent = root;
+        Node <T> node;
+        while(true){
+            int cmp = elem.compareTo(parent.data);
+            //value already exists, don't add it
+            if(cmp == 0)
+                return false;
+            Node <T> next = cmp < 0 ? parent.left : parent.right;
+            if(next == null){
+                node = new Node<>(elem, parent, RED);
+                if(cmp < 0)
+                    parent.left = node;
+                else
+                    parent.right = node;
+                break;
+            }
+            parent = next;
+        }
+        fixAfterInsertion(node);
+        nodeCount++;
+        modCount++;
+        return true;
+    }
+
+    //Remove an element, O(log(n))
+    @Override
+    public boolean remove(T elem){
+        Node <T> node = findNode(elem);
+        if(node == null)
+            return false;
+        //two children: take the successor's value and remove the successor instead
+        if(node.left != null && node.right != null){
+            Node <T> s = min(node.right);
+            node.data = s.data;
+            node = s;
+        }
+        Node <T> replacement = node.left != null ? node.left : node.right;
+        if(replacement != null){
+            replaceInParent(node, replacement);
+            node.left = node.right = node.parent = null;
+            if(node.meta == BLACK)
+                fixAfterDeletion(replacement);
+        }
+        else if(node.parent == null)
+            root = null;
+        else{
+            //no children: use the node itself as the phantom leaf while fixing, then unlink it
+            if(node.meta == BLACK)
+                fixAfterDeletion(node);
+            replaceInParent(node, null);
+            node.parent = null;
+        }
+        node.data = null;
+        nodeCount--;
+        modCount++;
+        return true;
+    }
+
+    private void fixAfterInsertion(Node <T> x){
+        while(x != root && colorOf(parentOf(x)) == RED){
+            Node <T> grand = parentOf(parentOf(x));
+            if(parentOf(x) == leftOf(grand)){
+                Node <T> uncle = rightOf(grand);
+                //red uncle: recolor and move the problem two levels up
+                if(colorOf(uncle) == RED){
+                    setColor(parentOf(x), BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grand, RED);
+                    x = grand;
+                }
+                //black uncle: one or two rotations finish the job
+                else{
+                    if(x == rightOf(parentOf(x))){
+                        x = parentOf(x);
+                        rotateLeft(x);
+                    }
+                    setColor(parentOf(x), BLACK);
+                    setColor(parentOf(parentOf(x)), RED);
+                    rotateRight(parentOf(parentOf(x)));
+                }
+            }
+            else{
+                Node <T> uncle = leftOf(grand);
+                if(colorOf(uncle) == RED){
+                    setColor(parentOf(x), BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grand, RED);
+                    x = grand;
+                }
+                else{
+                    if(x == leftOf(parentOf(x))){
+                        x = parentOf(x);
+                        rotateRight(x);
+                    }
+                    setColor(parentOf(x), BLACK);
+                    setColor(parentOf(parentOf(x)), RED);
+                    rotateLeft(parentOf(parentOf(x)));
+                }
+            }
+        }
+        root.meta = BLACK;
+    }
+
+    private void fixAfterDeletion(Node <T> x){
+        while(x != root && colorOf(x) == BLACK){
+            if(x == leftOf(parentOf(x))){
+                Node <T> sib = rightOf(parentOf(x));
+                if(colorOf(sib) == RED){
+                    setColor(sib, BLACK);
+                    setColor(parentOf(x), RED);
+                    rotateLeft(parentOf(x));
+                    sib = rightOf(parentOf(x));
+                }
+                if(colorOf(leftOf(sib)) == BLACK && colorOf(rightOf(sib)) == BLACK){
+                    setColor(sib, RED);
+                    x = parentOf(x);
+                }
+                else{
+                    if(colorOf(rightOf(sib)) == BLACK){
+                        setColor(leftOf(sib), BLACK);
+                        setColor(sib, RED);
+                        rotateRight(sib);
+                        sib = rightOf(parentOf(x));
+                    }
+                    setColor(sib, colorOf(parentOf(x)));
+                    setColor(parentOf(x), BLACK);
+                    setColor(rightOf(sib), BLACK);
+                    rotateLeft(parentOf(x));
+                    x = root;
+                }
+            }
+            else{
+                Node <T> sib = leftOf(parentOf(x));
+                if(colorOf(sib) == RED){
+                    setColor(sib, BLACK);
+                    setColor(parentOf(x), RED);
+                    rotateRight(parentOf(x));
+                    sib = leftOf(parentOf(x));
+                }
+                if(colorOf(rightOf(sib)) == BLACK && colorOf(leftOf(sib)) == BLACK){
+                    setColor(sib, RED);
+                    x = parentOf(x);
+                }
+                else{
+                    if(colorOf(leftOf(sib)) == BLACK){
+                        setColor(rightOf(sib), BLACK);
+                        setColor(sib, RED);
+                        rotateLeft(sib);
+                        sib = leftOf(parentOf(x));
+                    }
+                    setColor(sib, colorOf(parentOf(x)));
+                    setColor(parentOf(x), BLACK);
+                    setColor(leftOf(sib), BLACK);
+                    rotateRight(parentOf(x));
+                    x = root;
+                }
+            }
+        }
+        setColor(x, BLACK);
+    }
+
+    //null-safe helpers, a missing node counts as a black leaf
+    private static <T> int colorOf(Node <T> node){
+        return node == null ? BLACK : node.meta;
+    }
+
+    private static <T> void setColor(Node <T> node, int color){
+        if(node != null)
+            node.meta = color;
+    }
+
+    private static <T> Node<T> parentOf(Node <T> node){
+        return node == null ? null : node.parent;
+    }
+
+    private static <T> Node<T> leftOf(Node <T> node){
+        return node == null ? null : node.left;
+    }
+
+    private static <T> Node<T> rightOf(Node <T> node){
+        return node == null ? null : node.right;
+    }
+}
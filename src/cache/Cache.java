@@ -0,0 +1,27 @@
+package cache;
+
+// bounded key-value cache. implementations decide which entry to evict when the total weight
+// goes over the limit (LRUCache: least recently used, LFUCache: least frequently used)
+public interface Cache <K, V>{
+
+    // value for key, or null if it isn't cached. counts as a hit or a miss
+    V get(K key);
+
+    // insert or replace a value, evicting entries if the cache goes over its maximum weight
+    void put(K key, V value);
+
+    // drop a key, returns the value it had or null. doesn't count as an eviction
+    V remove(K key);
+
+    // number of entries
+    int size();
+
+    // sum of the weights of all the entries
+    long weight();
+
+    // drop every entry, doesn't count as evictions
+    void clear();
+
+    // hit/miss/eviction counters since the cache was created
+    CacheStats stats();
+}
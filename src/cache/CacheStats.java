@@ -0,0 +1,41 @@
+package cache;
+
+// immutable snapshot of a cache's counters
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheStats(long hits, long misses, long evictions){
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public long hits(){
+        return hits;
+    }
+
+    public long misses(){
+        return misses;
+    }
+
+    public long evictions(){
+        return evictions;
+    }
+
+    // fraction of lookups that were hits, 1.0 when there have been no lookups yet
+    public double hitRate(){
+        long requests = hits+misses;
+        return requests == 0 ? 1.0 : (double) hits/requests;
+    }
+
+    // counters of two caches added together, used to aggregate the stripes of StripedCache
+    public CacheStats plus(CacheStats other){
+        return new CacheStats(hits+other.hits, misses+other.misses, evictions+other.evictions);
+    }
+
+    @Override public String toString(){
+        return "CacheStats[hits="+hits+", misses="+misses+", evictions="+evictions+"]";
+    }
+}
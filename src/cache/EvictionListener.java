@@ -0,0 +1,7 @@
+package cache;
+
+// called for every entry a cache evicts to stay within its maximum weight
+@FunctionalInterface
+public interface EvictionListener <K, V>{
+    void onEviction(K key, V value);
+}
@@ -0,0 +1,202 @@
+package cache;
+
+import doublyLinkedList.DoublyLinkedList;
+
+import java.util.HashMap;
+
+// Least frequently used cache with O(1) get/put/evict (frequency buckets).
+// The buckets are a DoublyLinkedList in ascending frequency order, each bucket holds its
+// entries in a DoublyLinkedList of its own, most recently used first. A hit moves the entry
+// from bucket f to bucket f+1, which if it exists is f's successor node (otherwise it is
+// created right after f), so a hit needs no lookup at all. An eviction takes the tail of
+// the first bucket, so ties between equally frequent entries are broken by recency.
+// Not thread-safe, see StripedCache.
+public class LFUCache <K, V> implements Cache<K, V>{
+
+    private static final class Entry <K, V>{
+        final K key;
+        V value;
+        int weight;
+        // the entry's node inside its bucket and the bucket's node inside the bucket list
+        DoublyLinkedList.Node<Entry<K, V>> node;
+        DoublyLinkedList.Node<Bucket<K, V>> bucket;
+        Entry(K key, V value, int weight){
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Bucket <K, V>{
+        final long frequency;
+        final DoublyLinkedList<Entry<K, V>> entries = new DoublyLinkedList<>();
+        Bucket(long frequency){
+            this.frequency = frequency;
+        }
+    }
+
+    private final HashMap<K, Entry<K, V>> index = new HashMap<>();
+    private final DoublyLinkedList<Bucket<K, V>> buckets = new DoublyLinkedList<>();
+    private final long maxWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> listener;
+    private long totalWeight = 0;
+    private long hits = 0, misses = 0, evictions = 0;
+
+    // cache holding at most maxEntries entries
+    public LFUCache(int maxEntries){
+        this(maxEntries, Weigher.singleton(), null);
+    }
+
+    // cache whose total weight stays <= maxWeight, listener may be null
+    public LFUCache(long maxWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener){
+        if(maxWeight <= 0)
+            throw new IllegalArgumentException("maxWeight must be positive: "+maxWeight);
+        if(weigher == null)
+            throw new IllegalArgumentException("Weigher can't be null");
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+    }
+
+    @Override
+    public V get(K key){
+        Entry<K, V> entry = index.get(key);
+        if(entry == null){
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(entry);
+        return entry.value;
+    }
+
+    @Override
+    public void put(K key, V value){
+        if(key == null || value == null)
+            throw new IllegalArgumentException("Null keys and values are not allowed");
+        int weight = weigh(key, value);
+        if(weight > maxWeight){
+            rejectOversized(key, value);
+            return;
+        }
+        Entry<K, V> entry = index.get(key);
+        if(entry != null){
+            totalWeight += weight-entry.weight;
+            entry.value = value;
+            entry.weight = weight;
+            touch(entry);
+        }
+        else{
+            // make room first, so the new entry is never its own victim (oversized ones were rejected above)
+            totalWeight += weight;
+            evictWhileOverweight();
+            entry = new Entry<>(key, value, weight);
+            DoublyLinkedList.Node<Bucket<K, V>> first = buckets.firstNode();
+            if(first == null || first.value().frequency != 1)
+                first = addBucket(1, null);
+            link(entry, first);
+            index.put(key, entry);
+        }
+        evictWhileOverweight();
+    }
+
+    @Override
+    public V remove(K key){
+        Entry<K, V> entry = index.remove(key);
+        if(entry == null)
+            return null;
+        unlink(entry);
+        totalWeight -= entry.weight;
+        return entry.value;
+    }
+
+    @Override
+    public int size(){
+        return index.size();
+    }
+
+    @Override
+    public long weight(){
+        return totalWeight;
+    }
+
+    @Override
+    public void clear(){
+        index.clear();
+        buckets.clear();
+        totalWeight = 0;
+    }
+
+    @Override
+    public CacheStats stats(){
+        return new CacheStats(hits, misses, evictions);
+    }
+
+    // access frequency of a cached key, 0 if it isn't cached. doesn't count as a hit or a miss
+    public long frequency(K key){
+        Entry<K, V> entry = index.get(key);
+        return entry == null ? 0 : entry.bucket.value().frequency;
+    }
+
+    // move an entry to the bucket of frequency+1, O(1)
+    private void touch(Entry<K, V> entry){
+        DoublyLinkedList.Node<Bucket<K, V>> current = entry.bucket;
+        long frequency = current.value().frequency+1;
+        DoublyLinkedList.Node<Bucket<K, V>> next = current.next();
+        if(next == null || next.value().frequency != frequency)
+            next = addBucket(frequency, current);
+        unlink(entry);
+        link(entry, next);
+    }
+
+    // new empty bucket right after 'after', or at the front if after is null
+    private DoublyLinkedList.Node<Bucket<K, V>> addBucket(long frequency, DoublyLinkedList.Node<Bucket<K, V>> after){
+        Bucket<K, V> bucket = new Bucket<>(frequency);
+        return after == null ? buckets.addFirst(bucket) : buckets.insertAfter(after, bucket);
+    }
+
+    private void link(Entry<K, V> entry, DoublyLinkedList.Node<Bucket<K, V>> bucket){
+        entry.bucket = bucket;
+        entry.node = bucket.value().entries.addFirst(entry);
+    }
+
+    // take an entry out of its bucket, dropping the bucket if it became empty
+    private void unlink(Entry<K, V> entry){
+        Bucket<K, V> bucket = entry.bucket.value();
+        bucket.entries.unlink(entry.node);
+        if(bucket.entries.isEmpty())
+            buckets.unlink(entry.bucket);
+        entry.node = null;
+        entry.bucket = null;
+    }
+
+    // drop the least frequently used entries until the weight fits
+    private void evictWhileOverweight(){
+        while(totalWeight > maxWeight && !buckets.isEmpty()){
+            Entry<K, V> entry = buckets.peekFirst().entries.peekLast();
+            index.remove(entry.key);
+            unlink(entry);
+            totalWeight -= entry.weight;
+            evictions++;
+            if(listener != null)
+                listener.onEviction(entry.key, entry.value);
+        }
+    }
+
+    // an entry that can never fit is dropped on its own (and any old value for its key with it),
+    // instead of letting it push every other entry out first. reported like an eviction
+    private void rejectOversized(K key, V value){
+        remove(key);
+        evictions++;
+        if(listener != null)
+            listener.onEviction(key, value);
+    }
+
+    private int weigh(K key, V value){
+        int weight = weigher.weigh(key, value);
+        if(weight < 0)
+            throw new IllegalArgumentException("Negative weight for key "+key);
+        return weight;
+    }
+}
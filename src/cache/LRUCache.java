@@ -0,0 +1,142 @@
+package cache;
+
+import doublyLinkedList.DoublyLinkedList;
+
+import java.util.HashMap;
+
+// Least recently used cache: a HashMap from key to the entry's node in a DoublyLinkedList kept in
+// recency order (most recent at the head). A hit moves the node to the front and an eviction
+// takes the tail, both O(1) through the list's node handles. Not thread-safe, see StripedCache.
+public class LRUCache <K, V> implements Cache<K, V>{
+
+    private static final class Entry <K, V>{
+        final K key;
+        V value;
+        int weight;
+        Entry(K key, V value, int weight){
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private final HashMap<K, DoublyLinkedList.Node<Entry<K, V>>> index = new HashMap<>();
+    private final DoublyLinkedList<Entry<K, V>> recency = new DoublyLinkedList<>();
+    private final long maxWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> listener;
+    private long totalWeight = 0;
+    private long hits = 0, misses = 0, evictions = 0;
+
+    // cache holding at most maxEntries entries
+    public LRUCache(int maxEntries){
+        this(maxEntries, Weigher.singleton(), null);
+    }
+
+    // cache whose total weight stays <= maxWeight, listener may be null
+    public LRUCache(long maxWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener){
+        if(maxWeight <= 0)
+            throw new IllegalArgumentException("maxWeight must be positive: "+maxWeight);
+        if(weigher == null)
+            throw new IllegalArgumentException("Weigher can't be null");
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+    }
+
+    @Override
+    public V get(K key){
+        DoublyLinkedList.Node<Entry<K, V>> node = index.get(key);
+        if(node == null){
+            misses++;
+            return null;
+        }
+        hits++;
+        recency.moveToFront(node);
+        return node.value().value;
+    }
+
+    @Override
+    public void put(K key, V value){
+        if(key == null || value == null)
+            throw new IllegalArgumentException("Null keys and values are not allowed");
+        int weight = weigh(key, value);
+        if(weight > maxWeight){
+            rejectOversized(key, value);
+            return;
+        }
+        DoublyLinkedList.Node<Entry<K, V>> node = index.get(key);
+        if(node != null){
+            Entry<K, V> entry = node.value();
+            totalWeight += weight-entry.weight;
+            entry.value = value;
+            entry.weight = weight;
+            recency.moveToFront(node);
+        }
+        else{
+            index.put(key, recency.addFirst(new Entry<>(key, value, weight)));
+            totalWeight += weight;
+        }
+        evictWhileOverweight();
+    }
+
+    @Override
+    public V remove(K key){
+        DoublyLinkedList.Node<Entry<K, V>> node = index.remove(key);
+        if(node == null)
+            return null;
+        Entry<K, V> entry = recency.unlink(node);
+        totalWeight -= entry.weight;
+        return entry.value;
+    }
+
+    @Override
+    public int size(){
+        return index.size();
+    }
+
+    @Override
+    public long weight(){
+        return totalWeight;
+    }
+
+    @Override
+    public void clear(){
+        index.clear();
+        recency.clear();
+        totalWeight = 0;
+    }
+
+    @Override
+    public CacheStats stats(){
+        return new CacheStats(hits, misses, evictions);
+    }
+
+    // drop least recently used entries until the weight fits, put() never lets an entry heavier than maxWeight in
+    private void evictWhileOverweight(){
+        while(totalWeight > maxWeight && !recency.isEmpty()){
+            Entry<K, V> entry = recency.removeLast();
+            index.remove(entry.key);
+            totalWeight -= entry.weight;
+            evictions++;
+            if(listener != null)
+                listener.onEviction(entry.key, entry.value);
+        }
+    }
+
+    // an entry that can never fit is dropped on its own (and any old value for its key with it),
+    // instead of letting it push every other entry out first. reported like an eviction
+    private void rejectOversized(K key, V value){
+        remove(key);
+        evictions++;
+        if(listener != null)
+            listener.onEviction(key, value);
+    }
+
+    private int weigh(K key, V value){
+        int weight = weigher.weigh(key, value);
+        if(weight < 0)
+            throw new IllegalArgumentException("Negative weight for key "+key);
+        return weight;
+    }
+}
@@ -0,0 +1,177 @@
+package cache;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Thread-safe cache split into independent stripes, each one a plain LRUCache/LFUCache behind
+// its own lock. A key always goes to the same stripe (by its spread hashCode), so threads only
+// contend when they hit the same stripe. Eviction is per stripe: every stripe gets its own
+// share of the maximum weight, so the policy is approximate across the whole cache.
+// The eviction listener runs while the stripe's lock is held, it should be quick.
+public class StripedCache <K, V> implements Cache<K, V>{
+
+    private final Cache<K, V>[] stripes;
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    // stripes is rounded up to a power of two, factory builds one (empty) cache per stripe
+    @SuppressWarnings("unchecked")
+    public StripedCache(int stripes, Supplier<? extends Cache<K, V>> factory){
+        if(stripes <= 0 || stripes > (1 << 16))
+            throw new IllegalArgumentException("Illegal stripe count: "+stripes);
+        int n = Integer.highestOneBit(stripes);
+        if(n < stripes)
+            n <<= 1;
+        this.stripes = (Cache<K, V>[]) new Cache<?, ?>[n];
+        this.locks = new ReentrantLock[n];
+        for(int i=0; i<n; i++){
+            this.stripes[i] = factory.get();
+            this.locks[i] = new ReentrantLock();
+        }
+        mask = n-1;
+    }
+
+    // striped LRU cache holding about maxEntries entries in total
+    public static <K, V> StripedCache<K, V> lru(int stripes, int maxEntries){
+        return lru(stripes, maxEntries, Weigher.singleton(), null);
+    }
+
+    // striped LRU cache whose total weight stays <= maxWeight
+    public static <K, V> StripedCache<K, V> lru(int stripes, long maxWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener){
+        long perStripe = perStripe(stripes, maxWeight);
+        return new StripedCache<>(stripes, () -> new LRUCache<>(perStripe, weigher, listener));
+    }
+
+    // striped LFU cache holding about maxEntries entries in total
+    public static <K, V> StripedCache<K, V> lfu(int stripes, int maxEntries){
+        return lfu(stripes, maxEntries, Weigher.singleton(), null);
+    }
+
+    // striped LFU cache whose total weight stays <= maxWeight
+    public static <K, V> StripedCache<K, V> lfu(int stripes, long maxWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener){
+        long perStripe = perStripe(stripes, maxWeight);
+        return new StripedCache<>(stripes, () -> new LFUCache<>(perStripe, weigher, listener));
+    }
+
+    @Override
+    public V get(K key){
+        int i = stripeOf(key);
+        locks[i].lock();
+        try{
+            return stripes[i].get(key);
+        }
+        finally{
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public void put(K key, V value){
+        if(key == null || value == null)
+            throw new IllegalArgumentException("Null keys and values are not allowed");
+        int i = stripeOf(key);
+        locks[i].lock();
+        try{
+            stripes[i].put(key, value);
+        }
+        finally{
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public V remove(K key){
+        int i = stripeOf(key);
+        locks[i].lock();
+        try{
+            return stripes[i].remove(key);
+        }
+        finally{
+            locks[i].unlock();
+        }
+    }
+
+    // sum over the stripes, each one read under its lock, so only exact when quiescent
+    @Override
+    public int size(){
+        int size = 0;
+        for(int i=0; i<stripes.length; i++){
+            locks[i].lock();
+            try{
+                size += stripes[i].size();
+            }
+            finally{
+                locks[i].unlock();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long weight(){
+        long weight = 0;
+        for(int i=0; i<stripes.length; i++){
+            locks[i].lock();
+            try{
+                weight += stripes[i].weight();
+            }
+            finally{
+                locks[i].unlock();
+            }
+        }
+        return weight;
+    }
+
+    @Override
+    public void clear(){
+        for(int i=0; i<stripes.length; i++){
+            locks[i].lock();
+            try{
+                stripes[i].clear();
+            }
+            finally{
+                locks[i].unlock();
+            }
+        }
+    }
+
+    @Override
+    public CacheStats stats(){
+        CacheStats stats = new CacheStats(0, 0, 0);
+        for(int i=0; i<stripes.length; i++){
+            locks[i].lock();
+            try{
+                stats = stats.plus(stripes[i].stats());
+            }
+            finally{
+                locks[i].unlock();
+            }
+        }
+        return stats;
+    }
+
+    public int stripeCount(){
+        return stripes.length;
+    }
+
+    // spread the high bits down like HashMap does, so keys with poor low bits still spread out
+    private int stripeOf(K key){
+        if(key == null)
+            return 0;
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x9E3779B9;
+        return (h >>> 16) & mask;
+    }
+
+    private static long perStripe(int stripes, long maxWeight){
+        if(stripes <= 0)
+            throw new IllegalArgumentException("Illegal stripe count: "+stripes);
+        if(maxWeight <= 0)
+            throw new IllegalArgumentException("maxWeight must be positive: "+maxWeight);
+        long n = Integer.highestOneBit(stripes);
+        if(n < stripes)
+            n <<= 1;
+        return Math.max(1, (maxWeight+n-1)/n);
+    }
+}
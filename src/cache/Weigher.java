@@ -0,0 +1,16 @@
+package cache;
+
+// weight of an entry, the cache keeps the sum of the weights under its maximum weight.
+// the default weigher gives every entry weight 1, which makes the maximum weight an entry count
+@FunctionalInterface
+public interface Weigher <K, V>{
+
+    Weigher<Object, Object> SINGLETON = (key, value) -> 1;
+
+    int weigh(K key, V value);
+
+    @SuppressWarnings("unchecked")
+    static <K, V> Weigher<K, V> singleton(){
+        return (Weigher<K, V>) (Weigher<?, ?>) SINGLETON;
+    }
+}
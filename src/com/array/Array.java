@@ -5,6 +5,8 @@ public class Array <T> implements Iterable <T>{
     private T [] arr;
     private int len = 0;
     private int capacity = 0;
+    // bumped on every structural change so iterators can fail fast
+    private int modCount = 0;
     public Array(){
         this(16);
     }
@@ -21,46 +23,113 @@ public class Array <T> implements Iterable <T>{
         return size() == 0;
     }
     public T get(int index){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
         return arr[index];
     }
+    // only existing slots can be replaced, the slots past len must stay null
     public void set(int index, T elm){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
         arr[index] = elm;
     }
     public void clear(){
-        for(int i=0; i<capacity; i++)
+        for(int i=0; i<len; i++)
             arr[i] = null;
         len = 0;
+        modCount++;
     }
     public void add(T eml){
         //Time to resize
         //len = 4 and capacity = 4 then 4+1 = 5 > 4, so we will double the size ;)
-        if(len+1 >= capacity){
-            if(capacity==0)
-                capacity = 1;
-            else
-                capacity *= 2;
-            T[] new_arr = (T[]) new Object[capacity];
-            for(int i=0; i<len; i++)
-                new_arr[i] = arr[i];
-            arr = new_arr; // arr has extra nulls padded now
-        }
+        if(len+1 > capacity)
+            grow(len+1);
         arr[len++] = eml;
+        modCount++;
     }
+    // insert an element at index and shift the tail right, one arraycopy
+    public void insertAt(int index, T elm){
+        if(index > len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        if(len+1 > capacity)
+            grow(len+1);
+        System.arraycopy(arr, index, arr, index+1, len-index);
+        arr[index] = elm;
+        len++;
+        modCount++;
+    }
+    // shift the tail left in place, the capacity is left alone so the next add() doesn't have to grow again
     public T removeAt(int rm_index){
-        if(rm_index >= len && rm_index < 0)
-            throw new IndexOutOfBoundsException();
+        if(rm_index >= len || rm_index < 0)
+            throw new IndexOutOfBoundsException("Index: "+rm_index+", Size: "+len);
         T data = arr[rm_index];
-        T[] new_arr = (T[]) new Object[len-1];
-        for(int i=0, j=0; i<len; i++, j++) {
-            if (i == rm_index)
-                j--;
-            else
-                new_arr[j] = arr[i];
-        }
-        arr = new_arr;
-        capacity = --len;
+        System.arraycopy(arr, rm_index+1, arr, rm_index, len-rm_index-1);
+        arr[--len] = null; // let the GC have it
+        modCount++;
         return data;
     }
+    // remove elements in [from, to), one arraycopy
+    public void removeRange(int from, int to){
+        if(from < 0 || to > len || from > to)
+            throw new IndexOutOfBoundsException("From: "+from+", To: "+to+", Size: "+len);
+        System.arraycopy(arr, to, arr, from, len-to);
+        int newLen = len-(to-from);
+        for(int i=newLen; i<len; i++)
+            arr[i] = null;
+        len = newLen;
+        modCount++;
+    }
+    // remove every element matching the filter, O(n). the filter is only called in a first pass
+    // that marks the victims, so if it throws the array is left untouched; then compact
+    public boolean removeIf(java.util.function.Predicate<? super T> filter){
+        if(filter==null)
+            throw new NullPointerException();
+        java.util.BitSet remove = new java.util.BitSet(len);
+        for(int i=0; i<len; i++)
+            if(filter.test(arr[i]))
+                remove.set(i);
+        if(remove.isEmpty())
+            return false;
+        int j = 0;
+        for(int i=0; i<len; i++)
+            if(!remove.get(i))
+                arr[j++] = arr[i];
+        for(int i=j; i<len; i++)
+            arr[i] = null;
+        len = j;
+        modCount++;
+        return true;
+    }
+    // keep only the elements that are in the given collection
+    public boolean retainAll(java.util.Collection<?> keep){
+        if(keep==null)
+            throw new NullPointerException();
+        return removeIf(elm -> !keep.contains(elm));
+    }
+    // make sure at least minCapacity slots are available without further resizing
+    public void ensureCapacity(int minCapacity){
+        if(minCapacity > capacity)
+            grow(minCapacity);
+    }
+    // give back the unused slots, capacity becomes len
+    public void trimToSize(){
+        if(len == capacity)
+            return;
+        T[] new_arr = (T[]) new Object[len];
+        System.arraycopy(arr, 0, new_arr, 0, len);
+        arr = new_arr;
+        capacity = len;
+    }
+    // double the capacity (or more if minCapacity asks for it)
+    private void grow(int minCapacity){
+        int newCapacity = capacity==0 ? 1 : capacity*2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        T[] new_arr = (T[]) new Object[newCapacity];
+        System.arraycopy(arr, 0, new_arr, 0, len);
+        arr = new_arr; // arr has extra nulls padded now
+        capacity = newCapacity;
+    }
     public boolean remove(Object obj){
         for(int i=0; i<len; i++)
             if(arr[i].equals(obj)) {
@@ -78,17 +147,105 @@ public class Array <T> implements Iterable <T>{
     public boolean contains(Object obj){
         return indexOf(obj)!=-1;
     }
+    // fail-fast iterator, throws ConcurrentModificationException if the array is changed behind its back
     @Override public java.util.Iterator<T> iterator(){
         return new java.util.Iterator<T>() {
             int index = 0;
+            int lastReturned = -1;
+            int expectedModCount = modCount;
             @Override
             public boolean hasNext() {
-                return false;
+                return index < len;
             }
             @Override
             public T next() {
-                return null;
+                if(modCount != expectedModCount)
+                    throw new java.util.ConcurrentModificationException();
+                if(index >= len)
+                    throw new java.util.NoSuchElementException();
+                lastReturned = index;
+                return arr[index++];
+            }
+            @Override
+            public void remove() {
+                if(lastReturned < 0)
+                    throw new IllegalStateException();
+                if(modCount != expectedModCount)
+                    throw new java.util.ConcurrentModificationException();
+                removeAt(lastReturned);
+                index = lastReturned;
+                lastReturned = -1;
+                expectedModCount = modCount;
             }
         };
     }
+    // SIZED|SUBSIZED|ORDERED spliterator that splits the index range in half, so fork-join can work on it directly
+    @Override public java.util.Spliterator<T> spliterator(){
+        return new ArraySpliterator(0, -1, 0);
+    }
+    public java.util.stream.Stream<T> stream(){
+        return java.util.stream.StreamSupport.stream(spliterator(), false);
+    }
+    public java.util.stream.Stream<T> parallelStream(){
+        return java.util.stream.StreamSupport.stream(spliterator(), true);
+    }
+    private class ArraySpliterator implements java.util.Spliterator<T> {
+        private int index;
+        // -1 until first use, then the exclusive upper bound (late binding, like ArrayList)
+        private int fence;
+        private int expectedModCount;
+        ArraySpliterator(int origin, int fence, int expectedModCount){
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+        private int getFence(){
+            if(fence < 0){
+                expectedModCount = modCount;
+                fence = len;
+            }
+            return fence;
+        }
+        @Override
+        public java.util.Spliterator<T> trySplit(){
+            int hi = getFence(), lo = index, mid = (lo+hi) >>> 1;
+            if(lo >= mid)
+                return null;
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
+        @Override
+        public boolean tryAdvance(java.util.function.Consumer<? super T> action){
+            if(action==null)
+                throw new NullPointerException();
+            int hi = getFence();
+            if(index >= hi)
+                return false;
+            T elm = arr[index++];
+            action.accept(elm);
+            if(modCount != expectedModCount)
+                throw new java.util.ConcurrentModificationException();
+            return true;
+        }
+        @Override
+        public void forEachRemaining(java.util.function.Consumer<? super T> action){
+            if(action==null)
+                throw new NullPointerException();
+            int hi = getFence();
+            T[] a = arr;
+            for(int i=index; i<hi; i++)
+                action.accept(a[i]);
+            index = hi;
+            if(modCount != expectedModCount)
+                throw new java.util.ConcurrentModificationException();
+        }
+        @Override
+        public long estimateSize(){
+            return getFence()-index;
+        }
+        @Override
+        public int characteristics(){
+            return java.util.Spliterator.SIZED | java.util.Spliterator.SUBSIZED | java.util.Spliterator.ORDERED;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.array;
+
+import java.nio.ByteBuffer;
+
+// fixed-width encoding of an element, used by MappedArray to store records off-heap.
+// read/write use absolute offsets so the buffer position is never touched.
+public interface Codec <T>{
+
+    // number of bytes every encoded element takes
+    int width();
+
+    // encode elem into buf starting at offset
+    void write(ByteBuffer buf, int offset, T elem);
+
+    // decode the element stored at offset
+    T read(ByteBuffer buf, int offset);
+
+    Codec<Integer> INT = new Codec<Integer>() {
+        @Override public int width(){ return Integer.BYTES; }
+        @Override public void write(ByteBuffer buf, int offset, Integer elem){ buf.putInt(offset, elem); }
+        @Override public Integer read(ByteBuffer buf, int offset){ return buf.getInt(offset); }
+    };
+
+    Codec<Long> LONG = new Codec<Long>() {
+        @Override public int width(){ return Long.BYTES; }
+        @Override public void write(ByteBuffer buf, int offset, Long elem){ buf.putLong(offset, elem); }
+        @Override public Long read(ByteBuffer buf, int offset){ return buf.getLong(offset); }
+    };
+
+    Codec<Double> DOUBLE = new Codec<Double>() {
+        @Override public int width(){ return Double.BYTES; }
+        @Override public void write(ByteBuffer buf, int offset, Double elem){ buf.putDouble(offset, elem); }
+        @Override public Double read(ByteBuffer buf, int offset){ return buf.getDouble(offset); }
+    };
+}
@@ -0,0 +1,118 @@
+package com.array;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// double specialization of Array, values live in a raw double[] so nothing gets boxed
+public class DoubleArray implements Iterable <Double>{
+    private double [] arr;
+    private int len = 0;
+    private int capacity = 0;
+    public DoubleArray(){
+        this(16);
+    }
+    public DoubleArray(int capacity){
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        this.capacity = capacity;
+        arr = new double[capacity];
+    }
+    public int size(){
+        return len;
+    }
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+    public double get(int index){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        return arr[index];
+    }
+    public void set(int index, double elm){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        arr[index] = elm;
+    }
+    // no references to release, so just forget the elements, O(1)
+    public void clear(){
+        len = 0;
+    }
+    public void add(double elm){
+        if(len == capacity)
+            grow(len+1);
+        arr[len++] = elm;
+    }
+    // append a whole block with a single arraycopy
+    public void addAll(double[] elems){
+        if(len+elems.length > capacity)
+            grow(len+elems.length);
+        System.arraycopy(elems, 0, arr, len, elems.length);
+        len += elems.length;
+    }
+    public double removeAt(int rm_index){
+        if(rm_index >= len || rm_index < 0)
+            throw new IndexOutOfBoundsException("Index: "+rm_index+", Size: "+len);
+        double data = arr[rm_index];
+        // shift the tail one slot to the left in place
+        System.arraycopy(arr, rm_index+1, arr, rm_index, len-rm_index-1);
+        len--;
+        return data;
+    }
+    public boolean remove(double elm){
+        int index = indexOf(elm);
+        if(index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+    public int indexOf(double elm){
+        for(int i=0; i<len; i++)
+            // same semantics as Double.equals, so NaN can be found
+            if(Double.compare(arr[i], elm) == 0)
+                return i;
+        return -1;
+    }
+    public boolean contains(double elm){
+        return indexOf(elm)!=-1;
+    }
+    // copy of the live elements, trimmed to size
+    public double[] toArray(){
+        double[] out = new double[len];
+        System.arraycopy(arr, 0, out, 0, len);
+        return out;
+    }
+    // double the capacity (or more if minCapacity asks for it)
+    private void grow(int minCapacity){
+        int newCapacity = capacity==0 ? 1 : capacity*2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        double[] new_arr = new double[newCapacity];
+        System.arraycopy(arr, 0, new_arr, 0, len);
+        arr = new_arr;
+        capacity = newCapacity;
+    }
+    @Override public PrimitiveIterator.OfDouble iterator(){
+        return new PrimitiveIterator.OfDouble() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+            @Override
+            public double nextDouble() {
+                if(index >= len)
+                    throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+    @Override public String toString(){
+        StringBuilder sb = new StringBuilder(len*4+2).append("[");
+        for(int i=0; i<len; i++){
+            if(i>0)
+                sb.append(", ");
+            sb.append(arr[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
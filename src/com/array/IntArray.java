@@ -0,0 +1,117 @@
+package com.array;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// int specialization of Array, values live in a raw int[] so nothing gets boxed
+public class IntArray implements Iterable <Integer>{
+    private int [] arr;
+    private int len = 0;
+    private int capacity = 0;
+    public IntArray(){
+        this(16);
+    }
+    public IntArray(int capacity){
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        this.capacity = capacity;
+        arr = new int[capacity];
+    }
+    public int size(){
+        return len;
+    }
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+    public int get(int index){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        return arr[index];
+    }
+    public void set(int index, int elm){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        arr[index] = elm;
+    }
+    // no references to release, so just forget the elements, O(1)
+    public void clear(){
+        len = 0;
+    }
+    public void add(int elm){
+        if(len == capacity)
+            grow(len+1);
+        arr[len++] = elm;
+    }
+    // append a whole block with a single arraycopy
+    public void addAll(int[] elems){
+        if(len+elems.length > capacity)
+            grow(len+elems.length);
+        System.arraycopy(elems, 0, arr, len, elems.length);
+        len += elems.length;
+    }
+    public int removeAt(int rm_index){
+        if(rm_index >= len || rm_index < 0)
+            throw new IndexOutOfBoundsException("Index: "+rm_index+", Size: "+len);
+        int data = arr[rm_index];
+        // shift the tail one slot to the left in place
+        System.arraycopy(arr, rm_index+1, arr, rm_index, len-rm_index-1);
+        len--;
+        return data;
+    }
+    public boolean remove(int elm){
+        int index = indexOf(elm);
+        if(index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+    public int indexOf(int elm){
+        for(int i=0; i<len; i++)
+            if(arr[i] == elm)
+                return i;
+        return -1;
+    }
+    public boolean contains(int elm){
+        return indexOf(elm)!=-1;
+    }
+    // copy of the live elements, trimmed to size
+    public int[] toArray(){
+        int[] out = new int[len];
+        System.arraycopy(arr, 0, out, 0, len);
+        return out;
+    }
+    // double the capacity (or more if minCapacity asks for it)
+    private void grow(int minCapacity){
+        int newCapacity = capacity==0 ? 1 : capacity*2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        int[] new_arr = new int[newCapacity];
+        System.arraycopy(arr, 0, new_arr, 0, len);
+        arr = new_arr;
+        capacity = newCapacity;
+    }
+    @Override public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+            @Override
+            public int nextInt() {
+                if(index >= len)
+                    throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+    @Override public String toString(){
+        StringBuilder sb = new StringBuilder(len*4+2).append("[");
+        for(int i=0; i<len; i++){
+            if(i>0)
+                sb.append(", ");
+            sb.append(arr[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
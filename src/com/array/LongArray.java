@@ -0,0 +1,117 @@
+package com.array;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// long specialization of Array, values live in a raw long[] so nothing gets boxed
+public class LongArray implements Iterable <Long>{
+    private long [] arr;
+    private int len = 0;
+    private int capacity = 0;
+    public LongArray(){
+        this(16);
+    }
+    public LongArray(int capacity){
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        this.capacity = capacity;
+        arr = new long[capacity];
+    }
+    public int size(){
+        return len;
+    }
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+    public long get(int index){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        return arr[index];
+    }
+    public void set(int index, long elm){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        arr[index] = elm;
+    }
+    // no references to release, so just forget the elements, O(1)
+    public void clear(){
+        len = 0;
+    }
+    public void add(long elm){
+        if(len == capacity)
+            grow(len+1);
+        arr[len++] = elm;
+    }
+    // append a whole block with a single arraycopy
+    public void addAll(long[] elems){
+        if(len+elems.length > capacity)
+            grow(len+elems.length);
+        System.arraycopy(elems, 0, arr, len, elems.length);
+        len += elems.length;
+    }
+    public long removeAt(int rm_index){
+        if(rm_index >= len || rm_index < 0)
+            throw new IndexOutOfBoundsException("Index: "+rm_index+", Size: "+len);
+        long data = arr[rm_index];
+        // shift the tail one slot to the left in place
+        System.arraycopy(arr, rm_index+1, arr, rm_index, len-rm_index-1);
+        len--;
+        return data;
+    }
+    public boolean remove(long elm){
+        int index = indexOf(elm);
+        if(index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+    public int indexOf(long elm){
+        for(int i=0; i<len; i++)
+            if(arr[i] == elm)
+                return i;
+        return -1;
+    }
+    public boolean contains(long elm){
+        return indexOf(elm)!=-1;
+    }
+    // copy of the live elements, trimmed to size
+    public long[] toArray(){
+        long[] out = new long[len];
+        System.arraycopy(arr, 0, out, 0, len);
+        return out;
+    }
+    // double the capacity (or more if minCapacity asks for it)
+    private void grow(int minCapacity){
+        int newCapacity = capacity==0 ? 1 : capacity*2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        long[] new_arr = new long[newCapacity];
+        System.arraycopy(arr, 0, new_arr, 0, len);
+        arr = new_arr;
+        capacity = newCapacity;
+    }
+    @Override public PrimitiveIterator.OfLong iterator(){
+        return new PrimitiveIterator.OfLong() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+            @Override
+            public long nextLong() {
+                if(index >= len)
+                    throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+    @Override public String toString(){
+        StringBuilder sb = new StringBuilder(len*4+2).append("[");
+        for(int i=0; i<len; i++){
+            if(i>0)
+                sb.append(", ");
+            sb.append(arr[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,174 @@
+package com.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Off-heap version of Array, the records live in a memory-mapped file instead of an Object[].
+// Every element is encoded with a fixed-width Codec, so element i sits at a known offset.
+// The file is mapped in chunks, growing maps one more chunk (the existing mappings stay valid).
+// A MappedByteBuffer can't be larger than 2GB, chunking is what lets the array go past that.
+//
+// File layout: [magic:int][width:int][len:long] followed by the records.
+public class MappedArray <T> implements Iterable <T>, Closeable {
+    private static final int MAGIC = 0x4D415252; // "MARR"
+    private static final int HEADER = 16;
+    private static final int DEFAULT_CHUNK_RECORDS = 1 << 20;
+
+    private final FileChannel channel;
+    private final Codec<T> codec;
+    private final int width;
+    private final int chunkRecords;
+    private final long chunkBytes;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] chunks = new MappedByteBuffer[4];
+    private int numChunks = 0;
+    private int len = 0;
+
+    public MappedArray(Path file, Codec<T> codec){
+        this(file, codec, DEFAULT_CHUNK_RECORDS);
+    }
+
+    // opens the file if it already holds an array (reopen after restart), otherwise creates a new one
+    public MappedArray(Path file, Codec<T> codec, int chunkRecords){
+        if(codec==null)
+            throw new IllegalArgumentException("Codec can't be null");
+        if(codec.width() <= 0)
+            throw new IllegalArgumentException("Illegal codec width: "+codec.width());
+        if(chunkRecords <= 0 || (long) chunkRecords*codec.width() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Illegal chunk size: "+chunkRecords);
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkRecords = chunkRecords;
+        this.chunkBytes = (long) chunkRecords*width;
+        try{
+            // an empty file is a new array, anything else must carry a complete header
+            boolean existing = Files.exists(file) && Files.size(file) > 0;
+            if(existing && Files.size(file) < HEADER)
+                throw new IllegalArgumentException("Not a MappedArray file: "+file);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try{
+                header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+                if(existing){
+                    if(header.getInt(0) != MAGIC)
+                        throw new IllegalArgumentException("Not a MappedArray file: "+file);
+                    if(header.getInt(4) != width)
+                        throw new IllegalArgumentException("Record width mismatch, file has "+header.getInt(4)+" codec has "+width);
+                    len = (int) header.getLong(8);
+                    // map just the chunks that hold data, a restart is an mmap not a reload
+                    while((long) numChunks*chunkRecords < len)
+                        mapChunk();
+                }
+                else{
+                    header.putInt(0, MAGIC);
+                    header.putInt(4, width);
+                    header.putLong(8, 0);
+                }
+            }
+            catch(Throwable t){
+                // don't leak the channel when the file is rejected or a mapping fails
+                try{
+                    channel.close();
+                }
+                catch(IOException suppressed){
+                    t.addSuppressed(suppressed);
+                }
+                throw t;
+            }
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size(){
+        return len;
+    }
+
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    public T get(int index){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        return codec.read(chunks[index/chunkRecords], (index%chunkRecords)*width);
+    }
+
+    public void set(int index, T elm){
+        if(index >= len || index < 0)
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+len);
+        codec.write(chunks[index/chunkRecords], (index%chunkRecords)*width, elm);
+    }
+
+    public void add(T elm){
+        if(len == Integer.MAX_VALUE)
+            throw new IllegalStateException("MappedArray is full");
+        if(len == (long) numChunks*chunkRecords)
+            mapChunk();
+        codec.write(chunks[len/chunkRecords], (len%chunkRecords)*width, elm);
+        len++;
+        header.putLong(8, len);
+    }
+
+    // forget the elements, the file keeps its size and the mappings are reused
+    public void clear(){
+        len = 0;
+        header.putLong(8, 0);
+    }
+
+    // flush the records and the length to disk, after this the file can be reopened as is
+    public void persist(){
+        for(int i=0; i<numChunks; i++)
+            chunks[i].force();
+        header.force();
+    }
+
+    @Override
+    public void close(){
+        persist();
+        try{
+            channel.close();
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // map one more chunk at the end of the file, the file is extended by the mapping
+    private void mapChunk(){
+        if(numChunks == chunks.length){
+            MappedByteBuffer[] new_chunks = new MappedByteBuffer[chunks.length*2];
+            System.arraycopy(chunks, 0, new_chunks, 0, numChunks);
+            chunks = new_chunks;
+        }
+        try{
+            chunks[numChunks] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER+numChunks*chunkBytes, chunkBytes);
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+        numChunks++;
+    }
+
+    @Override public java.util.Iterator<T> iterator(){
+        return new java.util.Iterator<T>() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+            @Override
+            public T next() {
+                if(index >= len)
+                    throw new java.util.NoSuchElementException();
+                return get(index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,307 @@
+package doublyLinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Lock-free unbounded deque, a doubly linked list shared by any number of threads
+// (Michael's CAS-based deque).
+//
+// The two ends live together in one immutable Anchor (left, right, status) that is swapped
+// with a single CAS, so an operation never needs to update head and tail separately. A push
+// links the new node to the end node it sees, then CASes the anchor to the new end, marking it
+// unstable (LPUSH/RPUSH). The old end's pointer back to the new node is fixed afterwards by
+// stabilize(), and any thread that finds the anchor unstable helps with that first, so nobody
+// ever waits for a stalled thread. A pop is a single CAS that moves one end of a stable anchor.
+//
+// Iterators are weakly consistent: they start from a stable anchor, walk left to right,
+// never throw ConcurrentModificationException and may or may not see later updates.
+public class ConcurrentDeque <T> implements Iterable<T>{
+
+    private static final int STABLE = 0, RPUSH = 1, LPUSH = 2;
+
+    private static final class Node <T>{
+        volatile T data;
+        volatile Node <T> left, right;
+        Node(T data){
+            this.data = data;
+        }
+    }
+
+    private static final VarHandle LEFT, RIGHT;
+    static {
+        try{
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            LEFT = lookup.findVarHandle(Node.class, "left", Node.class);
+            RIGHT = lookup.findVarHandle(Node.class, "right", Node.class);
+        }
+        catch(ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final class Anchor <T>{
+        final Node <T> left, right;
+        final int status;
+        Anchor(Node <T> left, Node <T> right, int status){
+            this.left = left;
+            this.right = right;
+            this.status = status;
+        }
+    }
+
+    private final AtomicReference<Anchor<T>> anchor = new AtomicReference<>(new Anchor<>(null, null, STABLE));
+
+    // maintained with a counter, so size() is exact only when the deque is quiescent
+    private final AtomicInteger count = new AtomicInteger();
+
+    public int size(){
+        return count.get();
+    }
+
+    public boolean isEmpty(){
+        return anchor.get().left == null;
+    }
+
+    // add an element at the front (left end), lock-free
+    public void addFirst(T elem){
+        Node <T> node = newNode(elem);
+        while(true){
+            Anchor <T> a = anchor.get();
+            if(a.left == null){
+                if(anchor.compareAndSet(a, new Anchor<>(node, node, STABLE)))
+                    break;
+            }
+            else if(a.status == STABLE){
+                node.right = a.left;
+                Anchor <T> pushed = new Anchor<>(node, a.right, LPUSH);
+                if(anchor.compareAndSet(a, pushed)){
+                    stabilize(pushed);
+                    break;
+                }
+            }
+            else
+                stabilize(a);
+        }
+        count.incrementAndGet();
+    }
+
+    // add an element at the back (right end), lock-free
+    public void addLast(T elem){
+        Node <T> node = newNode(elem);
+        while(true){
+            Anchor <T> a = anchor.get();
+            if(a.right == null){
+                if(anchor.compareAndSet(a, new Anchor<>(node, node, STABLE)))
+                    break;
+            }
+            else if(a.status == STABLE){
+                node.left = a.right;
+                Anchor <T> pushed = new Anchor<>(a.left, node, RPUSH);
+                if(anchor.compareAndSet(a, pushed)){
+                    stabilize(pushed);
+                    break;
+                }
+            }
+            else
+                stabilize(a);
+        }
+        count.incrementAndGet();
+    }
+
+    // remove the front element, or return null if the deque is empty, lock-free
+    public T tryRemoveFirst(){
+        while(true){
+            Anchor <T> a = anchor.get();
+            if(a.left == null)
+                return null;
+            if(a.left == a.right){
+                if(anchor.compareAndSet(a, new Anchor<>(null, null, STABLE)))
+                    return popped(a.left, true, true);
+            }
+            else if(a.status == STABLE){
+                if(anchor.compareAndSet(a, new Anchor<>(a.left.right, a.right, STABLE)))
+                    return popped(a.left, true, false);
+            }
+            else
+                stabilize(a);
+        }
+    }
+
+    // remove the back element, or return null if the deque is empty, lock-free
+    public T tryRemoveLast(){
+        while(true){
+            Anchor <T> a = anchor.get();
+            if(a.right == null)
+                return null;
+            if(a.left == a.right){
+                if(anchor.compareAndSet(a, new Anchor<>(null, null, STABLE)))
+                    return popped(a.right, true, true);
+            }
+            else if(a.status == STABLE){
+                if(anchor.compareAndSet(a, new Anchor<>(a.left, a.right.left, STABLE)))
+                    return popped(a.right, false, true);
+            }
+            else
+                stabilize(a);
+        }
+    }
+
+    // remove the front element, throws if the deque is Empty
+    public T removeFirst(){
+        T data = tryRemoveFirst();
+        if(data == null)
+            throw new RuntimeException("The deque is Empty");
+        return data;
+    }
+
+    // remove the back element, throws if the deque is Empty
+    public T removeLast(){
+        T data = tryRemoveLast();
+        if(data == null)
+            throw new RuntimeException("The deque is Empty");
+        return data;
+    }
+
+    // look at the front element, or return null if the deque is empty
+    public T tryPeekFirst(){
+        while(true){
+            Anchor <T> a = anchor.get();
+            if(a.left == null)
+                return null;
+            T data = a.left.data;
+            // null means the node was popped right after we read the anchor, look again
+            if(data != null)
+                return data;
+        }
+    }
+
+    // look at the back element, or return null if the deque is empty
+    public T tryPeekLast(){
+        while(true){
+            Anchor <T> a = anchor.get();
+            if(a.right == null)
+                return null;
+            T data = a.right.data;
+            if(data != null)
+                return data;
+        }
+    }
+
+    // peek the front element, throws if the deque is Empty
+    public T peekFirst(){
+        T data = tryPeekFirst();
+        if(data == null)
+            throw new RuntimeException("The deque is Empty");
+        return data;
+    }
+
+    // peek the back element, throws if the deque is Empty
+    public T peekLast(){
+        T data = tryPeekLast();
+        if(data == null)
+            throw new RuntimeException("The deque is Empty");
+        return data;
+    }
+
+    // weakly consistent iterator from the front to the back
+    @Override
+    public Iterator<T> iterator(){
+        Anchor <T> a = anchor.get();
+        while(a.status != STABLE){
+            stabilize(a);
+            a = anchor.get();
+        }
+        return new WeakIterator(a.left, a.right);
+    }
+
+    private static <T> Node<T> newNode(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        return new Node<>(elem);
+    }
+
+    // only the thread whose CAS took the node out gets here, so it owns the node's data.
+    // the new end node still links back to the popped one, so cut the popped node's outward link
+    // (towards the node popped before it), otherwise every node ever popped stays reachable
+    // through that chain. at most one dead node is retained per end
+    private T popped(Node <T> node, boolean cutLeft, boolean cutRight){
+        T data = node.data;
+        node.data = null;
+        if(cutLeft)
+            node.left = null;
+        if(cutRight)
+            node.right = null;
+        count.decrementAndGet();
+        return data;
+    }
+
+    // finish an unstable push: point the old end node back at the new end, then mark the anchor
+    // stable. a stale anchor means someone else already finished it
+    private void stabilize(Anchor <T> a){
+        if(a.status == RPUSH){
+            Node <T> prev = a.right.left;
+            if(anchor.get() != a)
+                return;
+            Node <T> prevNext = prev.right;
+            if(prevNext != a.right){
+                if(anchor.get() != a)
+                    return;
+                // a CAS, not a write: if we stalled, prev may have been popped and pushed past since
+                if(!RIGHT.compareAndSet(prev, prevNext, a.right))
+                    return;
+            }
+        }
+        else if(a.status == LPUSH){
+            Node <T> next = a.left.right;
+            if(anchor.get() != a)
+                return;
+            Node <T> nextPrev = next.left;
+            if(nextPrev != a.left){
+                if(anchor.get() != a)
+                    return;
+                if(!LEFT.compareAndSet(next, nextPrev, a.left))
+                    return;
+            }
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.left, a.right, STABLE));
+    }
+
+    private class WeakIterator implements Iterator<T>{
+        private Node <T> node;
+        private final Node <T> last;
+        private T nextData;
+
+        WeakIterator(Node <T> first, Node <T> last){
+            this.node = first;
+            this.last = last;
+            advance();
+        }
+
+        // move to the next node that still holds an element, popped nodes have null data
+        private void advance(){
+            nextData = null;
+            while(node != null && nextData == null){
+                nextData = node.data;
+                node = node == last ? null : node.right;
+            }
+        }
+
+        @Override
+        public boolean hasNext(){
+            return nextData != null;
+        }
+
+        @Override
+        public T next(){
+            if(nextData == null)
+                throw new NoSuchElementException();
+            T data = nextData;
+            advance();
+            return data;
+        }
+    }
+}
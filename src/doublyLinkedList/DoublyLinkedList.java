@@ -3,18 +3,41 @@ package doublyLinkedList;
 public class DoublyLinkedList <T> implements Iterable<T>{
 
     private int size = 0;
+    private int modCount = 0;
     private Node <T> head = null;
     private Node <T> tail = null;
-    private static class Node <T>{
-        T data;
-        Node <T> prev, next;
-        public Node(T data, Node <T> prev, Node <T> next){
+
+    // a node doubles as an opaque handle: addFirst/addLast/insertBefore/insertAfter return it,
+    // and unlink/moveToFront/insertBefore/insertAfter take it, all in O(1)
+    public static final class Node <T>{
+        private T data;
+        private Node <T> prev, next;
+        // the list the node is linked into, null once it has been removed
+        private DoublyLinkedList<T> list;
+        private Node(T data, Node <T> prev, Node <T> next, DoublyLinkedList<T> list){
             this.data = data;
             this.prev = prev;
             this.next = next;
+            this.list = list;
+        }
+        // the element behind this handle
+        public T value(){
+            return data;
+        }
+        // whether the node is still linked into a list
+        public boolean isLinked(){
+            return list != null;
+        }
+        // the node after this one, or null for the last node (or a removed one)
+        public Node<T> next(){
+            return list == null ? null : next;
+        }
+        // the node before this one, or null for the first node (or a removed one)
+        public Node<T> prev(){
+            return list == null ? null : prev;
         }
         @Override public String toString(){
-            return data.toString();
+            return String.valueOf(data);
         }
     }
     // Empty the linked list, O(n)
@@ -24,10 +47,12 @@ public class DoublyLinkedList <T> implements Iterable<T>{
             Node <T> next = trav.next;
             trav.prev = trav.next = null;
             trav.data = null;
+            trav.list = null;
             trav = next;
         }
         head = tail = trav = null;
         size = 0;
+        modCount++;
     }
 
     //return the size of the linked list
@@ -45,26 +70,114 @@ public class DoublyLinkedList <T> implements Iterable<T>{
         addLast(elem);
     }
 
-    // add an element at the beginning of the linked list O(1)
-    public void addFirst(T elem){
+    // add an element at the beginning of the linked list and return its handle, O(1)
+    public Node<T> addFirst(T elem){
         if(isEmpty())
-            head = tail = new Node<T>(elem, null, null);
+            head = tail = new Node<T>(elem, null, null, this);
         else {
-            head.prev = new Node<T>(elem, null, head);
+            head.prev = new Node<T>(elem, null, head, this);
             head = head.prev;
         }
         size++;
+        modCount++;
+        return head;
     }
 
-    // add an element at the tail of the linked list O(1)
-    public void addLast(T elem){
+    // add an element at the tail of the linked list and return its handle, O(1)
+    public Node<T> addLast(T elem){
         if(isEmpty())
-            head = tail = new Node<T>(elem, null, null);
+            head = tail = new Node<T>(elem, null, null, this);
         else{
-            tail.next = new Node<T>(elem, tail, null);
+            tail.next = new Node<T>(elem, tail, null, this);
             tail = tail.next;
         }
         size++;
+        modCount++;
+        return tail;
+    }
+
+    // add an element right before the given node and return its handle, O(1)
+    public Node<T> insertBefore(Node<T> node, T elem){
+        checkOwned(node);
+        if(node == head)
+            return addFirst(elem);
+        Node<T> added = new Node<T>(elem, node.prev, node, this);
+        node.prev.next = added;
+        node.prev = added;
+        size++;
+        modCount++;
+        return added;
+    }
+
+    // add an element right after the given node and return its handle, O(1)
+    public Node<T> insertAfter(Node<T> node, T elem){
+        checkOwned(node);
+        if(node == tail)
+            return addLast(elem);
+        Node<T> added = new Node<T>(elem, node, node.next, this);
+        node.next.prev = added;
+        node.next = added;
+        size++;
+        modCount++;
+        return added;
+    }
+
+    // handle of the first node, or null if the list is empty
+    public Node<T> firstNode(){
+        return head;
+    }
+
+    // handle of the last node, or null if the list is empty
+    public Node<T> lastNode(){
+        return tail;
+    }
+
+    // move a node to the head of the list without allocating, O(1) (e.g. an LRU cache hit)
+    public void moveToFront(Node<T> node){
+        checkOwned(node);
+        if(node == head)
+            return;
+        // detach, the node isn't the head so it has a prev
+        node.prev.next = node.next;
+        if(node == tail)
+            tail = node.prev;
+        else
+            node.next.prev = node.prev;
+        // reattach in front
+        node.prev = null;
+        node.next = head;
+        head.prev = node;
+        head = node;
+        modCount++;
+    }
+
+    // move a node to the tail of the list without allocating, O(1)
+    public void moveToBack(Node<T> node){
+        checkOwned(node);
+        if(node == tail)
+            return;
+        node.next.prev = node.prev;
+        if(node == head)
+            head = node.next;
+        else
+            node.prev.next = node.next;
+        node.next = null;
+        node.prev = tail;
+        tail.next = node;
+        tail = node;
+        modCount++;
+    }
+
+    // remove the node behind a handle and return its data, O(1)
+    public T unlink(Node<T> node){
+        checkOwned(node);
+        return remove(node);
+    }
+
+    // a handle is only valid for the list it came from and only until it is removed
+    private void checkOwned(Node<T> node){
+        if(node == null || node.list != this)
+            throw new IllegalArgumentException("Node does not belong to this list");
     }
 
     // check the value of first node, if it exists O(1)
@@ -88,9 +201,14 @@ public class DoublyLinkedList <T> implements Iterable<T>{
             throw new RuntimeException("The list is Empty");
 
         //Extract the data at the head and move the head pointer forward one node
-        T data = head.data;
+        Node <T> old = head;
+        T data = old.data;
         head = head.next;
+        old.next = null;
+        old.data = null;
+        old.list = null;
         size--;
+        modCount++;
 
         //If the list is empty now set the tail to null as well
         if(isEmpty())
@@ -111,9 +229,14 @@ public class DoublyLinkedList <T> implements Iterable<T>{
             throw new RuntimeException("The list is Empty and do you really want to remove elements from an empty list pal?");
 
         //Extract the data at tail and move tail pointer to backward one node
-        T data = tail.data;
+        Node <T> old = tail;
+        T data = old.data;
         tail = tail.prev;
+        old.prev = null;
+        old.data = null;
+        old.list = null;
         size--;
+        modCount++;
 
         //If list is empty set the head to null
         if(isEmpty())
@@ -144,8 +267,10 @@ public class DoublyLinkedList <T> implements Iterable<T>{
 
         //memory clean up
         node.data = null;
+        node.list = null;
         node = node.next = node.prev = null;
         size--;
+        modCount++;
         return data;
     }
 
@@ -219,20 +344,95 @@ public class DoublyLinkedList <T> implements Iterable<T>{
 
     @Override
     public java.util.Iterator<T> iterator(){
-        return new java.util.Iterator<T>(){
-            private Node<T> trav = head;
+        return listIterator();
+    }
+
+    // list iterator starting at the head, supports remove/set/add at the cursor in O(1),
+    // so a sweep that drops or inserts elements as it goes stays linear
+    public java.util.ListIterator<T> listIterator(){
+        return new java.util.ListIterator<T>(){
+            // node returned by the next call to next(), null when the cursor is past the tail
+            private Node<T> nextNode = head;
+            // node returned by the last next()/previous(), null after remove/add
+            private Node<T> lastReturned = null;
+            private int nextIndex = 0;
+            private int expectedModCount = modCount;
+
             @Override
             public boolean hasNext(){
-                return trav != null;
+                return nextIndex < size;
             }
             @Override
             public T next(){
-                T data = trav.data;
-                trav = trav.next;
-                return data;
+                checkForComodification();
+                if(!hasNext())
+                    throw new java.util.NoSuchElementException();
+                lastReturned = nextNode;
+                nextNode = nextNode.next;
+                nextIndex++;
+                return lastReturned.data;
+            }
+            @Override
+            public boolean hasPrevious(){
+                return nextIndex > 0;
+            }
+            @Override
+            public T previous(){
+                checkForComodification();
+                if(!hasPrevious())
+                    throw new java.util.NoSuchElementException();
+                nextNode = nextNode == null ? tail : nextNode.prev;
+                lastReturned = nextNode;
+                nextIndex--;
+                return lastReturned.data;
+            }
+            @Override
+            public int nextIndex(){
+                return nextIndex;
+            }
+            @Override
+            public int previousIndex(){
+                return nextIndex-1;
+            }
+            @Override
+            public void remove(){
+                checkForComodification();
+                if(lastReturned == null)
+                    throw new IllegalStateException();
+                // removing the node the cursor points at (after previous()) moves the cursor to its successor
+                if(lastReturned == nextNode)
+                    nextNode = nextNode.next;
+                else
+                    nextIndex--;
+                DoublyLinkedList.this.remove(lastReturned);
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+            @Override
+            public void set(T elem){
+                checkForComodification();
+                if(lastReturned == null)
+                    throw new IllegalStateException();
+                lastReturned.data = elem;
+            }
+            @Override
+            public void add(T elem){
+                checkForComodification();
+                if(nextNode == null)
+                    addLast(elem);
+                else
+                    insertBefore(nextNode, elem);
+                nextIndex++;
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+            private void checkForComodification(){
+                if(modCount != expectedModCount)
+                    throw new java.util.ConcurrentModificationException();
             }
         };
     }
+
     @Override public String toString(){
         StringBuilder sb = new StringBuilder();
         sb.append("[");
@@ -0,0 +1,443 @@
+package doublyLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Indexable doubly linked list (indexed skip list): level 0 is a plain doubly linked list,
+// the upper levels are express lanes whose links remember how many elements they jump over
+// (their width). get, set, insertAt and removeAt descend the lanes in O(log(n)) expected.
+//
+// The list keeps the first and last node of every level together with their indices, and the
+// width of a level's last link is never stored. Adding or removing at either end therefore
+// only touches the levels of the node itself, expected O(1). The indices of the first/last
+// nodes are stored relative to 'offset', so addFirst/removeFirst shift all of them at once.
+// Iteration walks level 0 like DoublyLinkedList.
+@SuppressWarnings("unchecked")
+public class IndexedLinkedList <T> implements Iterable<T>{
+
+    private static final int MAX_LEVEL = 32;
+
+    private static final class Node{
+        Object data;
+        final Node[] next, prev;
+        // width[l] = index(next[l]) - index(this), only meaningful while next[l] != null
+        final int[] width;
+        Node(Object data, int height){
+            this.data = data;
+            next = new Node[height];
+            prev = new Node[height];
+            width = new int[height];
+        }
+    }
+
+    private final Node[] first = new Node[MAX_LEVEL];
+    private final Node[] last = new Node[MAX_LEVEL];
+    // index of first[l] / last[l] is firstPos[l]+offset / lastPos[l]+offset
+    private final int[] firstPos = new int[MAX_LEVEL];
+    private final int[] lastPos = new int[MAX_LEVEL];
+    private int offset = 0;
+    // number of levels that currently have nodes
+    private int levels = 0;
+    private int size = 0;
+    private int modCount = 0;
+
+    // scratch space for insertAt/removeAt: the last node before the index on every level and its index
+    private final Node[] preds = new Node[MAX_LEVEL];
+    private final int[] predIndex = new int[MAX_LEVEL];
+
+    // Empty the list, O(n)
+    public void clear(){
+        Node trav = first[0];
+        while(trav != null){
+            Node next = trav.next[0];
+            java.util.Arrays.fill(trav.next, null);
+            java.util.Arrays.fill(trav.prev, null);
+            trav.data = null;
+            trav = next;
+        }
+        java.util.Arrays.fill(first, null);
+        java.util.Arrays.fill(last, null);
+        java.util.Arrays.fill(preds, null);
+        levels = 0;
+        offset = 0;
+        size = 0;
+        modCount++;
+    }
+
+    //return the size of the list
+    public int size(){
+        return size;
+    }
+
+    //return whether the list is empty or not
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    // add an element to the tail of the list
+    public void add(T elem){
+        addLast(elem);
+    }
+
+    // add an element at the beginning of the list, O(1) expected
+    public void addFirst(T elem){
+        Node node = newNode(elem);
+        // every existing element moves one position to the right
+        offset++;
+        for(int l=0; l<node.next.length; l++){
+            Node succ = first[l];
+            node.next[l] = succ;
+            if(succ != null){
+                node.width[l] = firstIndex(l);
+                succ.prev[l] = node;
+            }
+            else
+                setLast(l, node, 0);
+            setFirst(l, node, 0);
+        }
+        size++;
+        modCount++;
+    }
+
+    // add an element at the end of the list, O(1) expected
+    public void addLast(T elem){
+        Node node = newNode(elem);
+        for(int l=0; l<node.next.length; l++){
+            Node pred = last[l];
+            node.prev[l] = pred;
+            if(pred != null){
+                pred.next[l] = node;
+                pred.width[l] = size-lastIndex(l);
+            }
+            else
+                setFirst(l, node, size);
+            setLast(l, node, size);
+        }
+        size++;
+        modCount++;
+    }
+
+    // insert an element so that it ends up at index, O(log(n)) expected
+    public void insertAt(int index, T elem){
+        if(index<0 || index>size)
+            throw new IndexOutOfBoundsException("Index: "+index+", size: "+size);
+        if(index == 0){
+            addFirst(elem);
+            return;
+        }
+        if(index == size){
+            addLast(elem);
+            return;
+        }
+        // create the node first, so locate also covers the levels it may add
+        Node node = newNode(elem);
+        locate(index);
+        int h = node.next.length;
+        for(int l=0; l<levels; l++){
+            Node pred = preds[l];
+            if(l < h){
+                Node succ = pred == null ? first[l] : pred.next[l];
+                node.prev[l] = pred;
+                node.next[l] = succ;
+                if(succ != null){
+                    // succ's index before the insert is (pred's index + width) or firstIndex
+                    int succIndex = pred == null ? firstIndex(l) : predIndex[l]+pred.width[l];
+                    node.width[l] = succIndex+1-index;
+                    succ.prev[l] = node;
+                    lastPos[l]++;
+                }
+                else
+                    setLast(l, node, index);
+                if(pred == null)
+                    setFirst(l, node, index);
+                else{
+                    pred.next[l] = node;
+                    pred.width[l] = index-predIndex[l];
+                }
+            }
+            // the level doesn't get the new node, links jumping over index just get wider
+            else if(pred == null){
+                if(first[l] != null){
+                    firstPos[l]++;
+                    lastPos[l]++;
+                }
+            }
+            else if(pred.next[l] != null){
+                pred.width[l]++;
+                lastPos[l]++;
+            }
+        }
+        java.util.Arrays.fill(preds, 0, levels, null);
+        size++;
+        modCount++;
+    }
+
+    // the element at index, O(log(n)) expected
+    public T get(int index){
+        return (T) nodeAt(index).data;
+    }
+
+    // replace the element at index and return the old one, O(log(n)) expected
+    public T set(int index, T elem){
+        Node node = nodeAt(index);
+        T old = (T) node.data;
+        node.data = elem;
+        return old;
+    }
+
+    // check the value of the first element O(1)
+    public T peekFirst(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        return (T) first[0].data;
+    }
+
+    // check the value of the last element O(1)
+    public T peekLast(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        return (T) last[0].data;
+    }
+
+    // Remove the first element of the list, O(1) expected
+    public T removeFirst(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        Node node = first[0];
+        for(int l=0; l<node.next.length; l++){
+            Node succ = node.next[l];
+            if(succ != null){
+                succ.prev[l] = null;
+                setFirst(l, succ, node.width[l]);
+            }
+            else
+                first[l] = last[l] = null;
+        }
+        // every remaining element moves one position to the left
+        offset--;
+        return unlinked(node);
+    }
+
+    // Remove the last element of the list, O(1) expected
+    public T removeLast(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        Node node = last[0];
+        for(int l=0; l<node.next.length; l++){
+            Node pred = node.prev[l];
+            if(pred != null){
+                pred.next[l] = null;
+                setLast(l, pred, size-1-pred.width[l]);
+            }
+            else
+                first[l] = last[l] = null;
+        }
+        return unlinked(node);
+    }
+
+    // Remove the element at a particular index, O(log(n)) expected
+    public T removeAt(int index){
+        if(index<0 || index>=size)
+            throw new IllegalArgumentException();
+        if(index == 0)
+            return removeFirst();
+        if(index == size-1)
+            return removeLast();
+        locate(index);
+        Node node = preds[0].next[0];
+        int h = node.next.length;
+        for(int l=0; l<levels; l++){
+            Node pred = preds[l];
+            if(l < h){
+                Node succ = node.next[l];
+                if(succ != null){
+                    succ.prev[l] = pred;
+                    lastPos[l]--;
+                }
+                if(pred == null){
+                    if(succ != null)
+                        setFirst(l, succ, index+node.width[l]-1);
+                    else
+                        first[l] = last[l] = null;
+                }
+                else{
+                    pred.next[l] = succ;
+                    if(succ != null)
+                        pred.width[l] += node.width[l]-1;
+                    else
+                        setLast(l, pred, predIndex[l]);
+                }
+            }
+            else if(pred == null){
+                if(first[l] != null){
+                    firstPos[l]--;
+                    lastPos[l]--;
+                }
+            }
+            else if(pred.next[l] != null){
+                pred.width[l]--;
+                lastPos[l]--;
+            }
+        }
+        java.util.Arrays.fill(preds, 0, levels, null);
+        return unlinked(node);
+    }
+
+    //Remove the first occurrence of a value, O(n)
+    public boolean remove(Object obj){
+        int index = indexOf(obj);
+        if(index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    // Find the index of a particular value, walks level 0, O(n)
+    public int indexOf(Object obj){
+        int index = 0;
+        for(Node trav = first[0]; trav != null; trav = trav.next[0], index++){
+            if(obj == null ? trav.data == null : obj.equals(trav.data))
+                return index;
+        }
+        return -1;
+    }
+
+    // Check if value is in the list or not
+    public boolean contains(Object obj){
+        return indexOf(obj) != -1;
+    }
+
+    private int firstIndex(int l){
+        return firstPos[l]+offset;
+    }
+
+    private int lastIndex(int l){
+        return lastPos[l]+offset;
+    }
+
+    private void setFirst(int l, Node node, int index){
+        first[l] = node;
+        firstPos[l] = index-offset;
+    }
+
+    private void setLast(int l, Node node, int index){
+        last[l] = node;
+        lastPos[l] = index-offset;
+    }
+
+    // node with a random height, raising the number of levels if needed
+    private Node newNode(Object data){
+        int height = Math.min(1+Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt()), MAX_LEVEL);
+        if(height > levels)
+            levels = height;
+        return new Node(data, height);
+    }
+
+    // bookkeeping shared by every removal, drops levels that became empty
+    private T unlinked(Node node){
+        T data = (T) node.data;
+        node.data = null;
+        while(levels > 0 && first[levels-1] == null)
+            levels--;
+        size--;
+        modCount++;
+        return data;
+    }
+
+    // top-down descent: the node at index
+    private Node nodeAt(int index){
+        if(index<0 || index>=size)
+            throw new IndexOutOfBoundsException("Index: "+index+", size: "+size);
+        if(index == size-1)
+            return last[0];
+        Node node = null;
+        int pos = 0;
+        for(int l=levels-1; l>=0; l--){
+            if(node == null){
+                if(first[l] == null || firstIndex(l) > index)
+                    continue;
+                node = first[l];
+                pos = firstIndex(l);
+            }
+            while(node.next[l] != null && pos+node.width[l] <= index){
+                pos += node.width[l];
+                node = node.next[l];
+            }
+            if(pos == index)
+                return node;
+        }
+        return node;
+    }
+
+    // top-down descent: fill preds/predIndex with the last node before index on every level,
+    // null when the level has no node before index. 0 < index < size
+    private void locate(int index){
+        Node node = null;
+        int pos = 0;
+        for(int l=levels-1; l>=0; l--){
+            if(node == null && first[l] != null && firstIndex(l) < index){
+                node = first[l];
+                pos = firstIndex(l);
+            }
+            if(node != null){
+                while(node.next[l] != null && pos+node.width[l] < index){
+                    pos += node.width[l];
+                    node = node.next[l];
+                }
+            }
+            preds[l] = node;
+            predIndex[l] = pos;
+        }
+    }
+
+    // fail-fast iterator over level 0, remove() goes through removeAt, O(log(n)) expected
+    @Override
+    public Iterator<T> iterator(){
+        return new Iterator<T>(){
+            private Node next = first[0];
+            private int index = 0;
+            private boolean canRemove = false;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext(){
+                return next != null;
+            }
+
+            @Override
+            public T next(){
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(next == null)
+                    throw new NoSuchElementException();
+                T data = (T) next.data;
+                next = next.next[0];
+                index++;
+                canRemove = true;
+                return data;
+            }
+
+            @Override
+            public void remove(){
+                if(!canRemove)
+                    throw new IllegalStateException();
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                removeAt(--index);
+                canRemove = false;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    @Override public String toString(){
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for(Node trav = first[0]; trav != null; trav = trav.next[0])
+            sb.append(trav.data).append(", ");
+        sb.append("]");
+        return sb.toString();
+    }
+}
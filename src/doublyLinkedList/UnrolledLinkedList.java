@@ -0,0 +1,388 @@
+package doublyLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Unrolled doubly linked list: every node (chunk) holds a small array of elements instead of
+// a single one, with the same addFirst/addLast/removeFirst/removeLast/removeAt/indexOf/iterator
+// API as DoublyLinkedList. Scans walk plain arrays and only follow a pointer once per chunk,
+// and the per-element overhead is a single array slot instead of a whole node.
+//
+// A chunk keeps its elements in items[start .. start+n), so adding or removing at either end
+// of the list is O(1). Every chunk knows its count n, so removeAt/get skip whole chunks.
+// When a removal leaves an inner chunk less than half full it borrows from, or merges with,
+// its successor, so the chunks stay dense.
+@SuppressWarnings("unchecked")
+public class UnrolledLinkedList <T> implements Iterable<T>{
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private static final class Chunk{
+        final Object[] items;
+        int start = 0, n = 0;
+        Chunk prev, next;
+        Chunk(int capacity){
+            items = new Object[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+    private int size = 0;
+    private int modCount = 0;
+    private Chunk head = null;
+    private Chunk tail = null;
+
+    // position inside the chunk returned by the last chunkOf call
+    private int offset;
+
+    public UnrolledLinkedList(){
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    // chunkCapacity is the number of elements stored per node
+    public UnrolledLinkedList(int chunkCapacity){
+        if(chunkCapacity < 4)
+            throw new IllegalArgumentException("Chunk capacity must be at least 4: "+chunkCapacity);
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    // Empty the list, only the chunk pointers are dropped, O(n/chunkCapacity)
+    public void clear(){
+        Chunk trav = head;
+        while(trav != null){
+            Chunk next = trav.next;
+            trav.prev = trav.next = null;
+            trav = next;
+        }
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    //return the size of the list
+    public int size(){
+        return size;
+    }
+
+    //return whether the list is empty or not
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    // add an element to the tail of the list O(1)
+    public void add(T elem){
+        addLast(elem);
+    }
+
+    // add an element at the beginning of the list, O(1) amortized
+    public void addFirst(T elem){
+        Chunk c = head;
+        if(c == null || c.n == chunkCapacity){
+            c = new Chunk(chunkCapacity);
+            c.start = chunkCapacity;
+            linkFirst(c);
+        }
+        else if(c.start == 0){
+            // free slots are all at the back, move the elements to the end of the array
+            int to = chunkCapacity-c.n;
+            System.arraycopy(c.items, 0, c.items, to, c.n);
+            java.util.Arrays.fill(c.items, 0, to, null);
+            c.start = to;
+        }
+        c.items[--c.start] = elem;
+        c.n++;
+        size++;
+        modCount++;
+    }
+
+    // add an element at the end of the list, O(1) amortized
+    public void addLast(T elem){
+        Chunk c = tail;
+        if(c == null || c.n == chunkCapacity){
+            c = new Chunk(chunkCapacity);
+            linkLast(c);
+        }
+        else if(c.start+c.n == chunkCapacity)
+            compact(c);
+        c.items[c.start+c.n] = elem;
+        c.n++;
+        size++;
+        modCount++;
+    }
+
+    // check the value of the first element O(1)
+    public T peekFirst(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        return (T) head.items[head.start];
+    }
+
+    // check the value of the last element O(1)
+    public T peekLast(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        return (T) tail.items[tail.start+tail.n-1];
+    }
+
+    // Remove the first element of the list, O(1)
+    public T removeFirst(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        Chunk c = head;
+        T data = (T) c.items[c.start];
+        c.items[c.start++] = null;
+        if(--c.n == 0)
+            unlink(c);
+        size--;
+        modCount++;
+        return data;
+    }
+
+    // Remove the last element of the list, O(1)
+    public T removeLast(){
+        if(isEmpty())
+            throw new RuntimeException("The list is Empty");
+        Chunk c = tail;
+        int last = c.start+c.n-1;
+        T data = (T) c.items[last];
+        c.items[last] = null;
+        if(--c.n == 0)
+            unlink(c);
+        size--;
+        modCount++;
+        return data;
+    }
+
+    // the element at index, O(n/chunkCapacity)
+    public T get(int index){
+        if(index<0 || index>=size)
+            throw new IndexOutOfBoundsException("Index: "+index+", size: "+size);
+        Chunk c = chunkOf(index);
+        return (T) c.items[c.start+offset];
+    }
+
+    // Remove the element at a particular index, skips whole chunks, O(n/chunkCapacity + chunkCapacity)
+    public T removeAt(int index){
+        if(index<0 || index>=size)
+            throw new IllegalArgumentException();
+        Chunk c = chunkOf(index);
+        return removeIn(c, offset);
+    }
+
+    //Remove the first occurrence of a value, O(n)
+    public boolean remove(Object obj){
+        for(Chunk c = head; c != null; c = c.next){
+            int i = find(c, obj);
+            if(i >= 0){
+                removeIn(c, i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Find the index of a particular value, scans the chunk arrays, O(n)
+    public int indexOf(Object obj){
+        int base = 0;
+        for(Chunk c = head; c != null; c = c.next){
+            int i = find(c, obj);
+            if(i >= 0)
+                return base+i;
+            base += c.n;
+        }
+        return -1;
+    }
+
+    // Check if value is in the list or not
+    public boolean contains(Object obj){
+        return indexOf(obj) != -1;
+    }
+
+    // number of chunks currently allocated
+    public int chunkCount(){
+        int count = 0;
+        for(Chunk c = head; c != null; c = c.next)
+            count++;
+        return count;
+    }
+
+    // chunk that holds index (and its position in offset), walks from whichever end is closer
+    private Chunk chunkOf(int index){
+        Chunk c;
+        if(index < size/2){
+            c = head;
+            while(index >= c.n){
+                index -= c.n;
+                c = c.next;
+            }
+        }
+        else{
+            index = size-1-index;
+            c = tail;
+            while(index >= c.n){
+                index -= c.n;
+                c = c.prev;
+            }
+            index = c.n-1-index;
+        }
+        offset = index;
+        return c;
+    }
+
+    // position of obj inside a chunk, or -1
+    private static int find(Chunk c, Object obj){
+        Object[] items = c.items;
+        int end = c.start+c.n;
+        if(obj == null){
+            for(int i=c.start; i<end; i++)
+                if(items[i] == null)
+                    return i-c.start;
+        }
+        else{
+            for(int i=c.start; i<end; i++)
+                if(obj.equals(items[i]))
+                    return i-c.start;
+        }
+        return -1;
+    }
+
+    // remove the i-th element of chunk c. afterwards c only grows at its end (borrow/merge from
+    // c.next) or is unlinked when it became empty, the iterator relies on that
+    private T removeIn(Chunk c, int i){
+        int pos = c.start+i;
+        T data = (T) c.items[pos];
+        int last = c.start+c.n-1;
+        System.arraycopy(c.items, pos+1, c.items, pos, last-pos);
+        c.items[last] = null;
+        c.n--;
+        size--;
+        modCount++;
+        if(c.n == 0)
+            unlink(c);
+        else if(c.n < chunkCapacity/2 && c.next != null){
+            Chunk next = c.next;
+            compact(c);
+            if(c.n+next.n <= chunkCapacity){
+                // merge the successor into c
+                System.arraycopy(next.items, next.start, c.items, c.n, next.n);
+                c.n += next.n;
+                unlink(next);
+            }
+            else{
+                // the successor has more than half, borrow its first element
+                c.items[c.n++] = next.items[next.start];
+                next.items[next.start++] = null;
+                next.n--;
+            }
+        }
+        return data;
+    }
+
+    // move the elements of a chunk to the front of its array
+    private static void compact(Chunk c){
+        if(c.start == 0)
+            return;
+        System.arraycopy(c.items, c.start, c.items, 0, c.n);
+        java.util.Arrays.fill(c.items, Math.max(c.n, c.start), c.start+c.n, null);
+        c.start = 0;
+    }
+
+    private void linkFirst(Chunk c){
+        c.next = head;
+        if(head != null)
+            head.prev = c;
+        else
+            tail = c;
+        head = c;
+    }
+
+    private void linkLast(Chunk c){
+        c.prev = tail;
+        if(tail != null)
+            tail.next = c;
+        else
+            head = c;
+        tail = c;
+    }
+
+    private void unlink(Chunk c){
+        if(c.prev != null)
+            c.prev.next = c.next;
+        else
+            head = c.next;
+        if(c.next != null)
+            c.next.prev = c.prev;
+        else
+            tail = c.prev;
+        c.prev = c.next = null;
+    }
+
+    // fail-fast iterator, walks each chunk array in turn, supports remove()
+    @Override
+    public Iterator<T> iterator(){
+        return new Iterator<T>(){
+            private Chunk chunk = head;
+            private int pos = 0;
+            private Chunk lastChunk = null;
+            private int lastPos = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext(){
+                return chunk != null;
+            }
+
+            @Override
+            public T next(){
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(chunk == null)
+                    throw new NoSuchElementException();
+                lastChunk = chunk;
+                lastPos = pos;
+                T data = (T) chunk.items[chunk.start+pos];
+                if(++pos == chunk.n){
+                    chunk = chunk.next;
+                    pos = 0;
+                }
+                return data;
+            }
+
+            @Override
+            public void remove(){
+                if(lastChunk == null)
+                    throw new IllegalStateException();
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                Chunk successor = lastChunk.next;
+                removeIn(lastChunk, lastPos);
+                // the element after the removed one now sits at lastPos, or starts the successor
+                if(lastChunk.n == 0){
+                    chunk = successor;
+                    pos = 0;
+                }
+                else{
+                    chunk = lastChunk;
+                    pos = lastPos;
+                    if(pos == chunk.n){
+                        chunk = chunk.next;
+                        pos = 0;
+                    }
+                }
+                lastChunk = null;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    @Override public String toString(){
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for(Chunk c = head; c != null; c = c.next)
+            for(int i=c.start; i<c.start+c.n; i++)
+                sb.append(c.items[i]).append(", ");
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,140 @@
+package doublyLinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Work-stealing deque (Chase-Lev) for a fork-join style task runner: one owner thread pushes
+// and pops tasks at the bottom end, any number of thieves steal from the top end.
+//
+// The elements sit in a growable ring indexed by two counters. The owner's push/pop are plain
+// reads and writes of bottom with no CAS, only the race for the very last element goes through
+// a CAS on top. Thieves claim an element with a CAS on top, so they only contend with each
+// other (and with the owner when one element is left). The ring doubles when full and never shrinks.
+public class WorkStealingDeque <T>{
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    // top: next index to steal, bottom: next index the owner pushes to; top <= bottom
+    private volatile long top = 0;
+    private volatile long bottom = 0;
+    private volatile AtomicReferenceArray<T> ring;
+    // owner only: every slot below this index has been cleared after it was stolen
+    private long cleared = 0;
+
+    private static final VarHandle TOP;
+    static {
+        try{
+            TOP = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "top", long.class);
+        }
+        catch(ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public WorkStealingDeque(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    // initial capacity, rounded up to a power of two
+    public WorkStealingDeque(int capacity){
+        if(capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("Illegal capacity: "+capacity);
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity)
+            size <<= 1;
+        ring = new AtomicReferenceArray<>(size);
+    }
+
+    // approximate number of elements, exact only when no other thread is using the deque
+    public int size(){
+        long n = bottom-top;
+        return n < 0 ? 0 : (int) n;
+    }
+
+    public boolean isEmpty(){
+        return bottom-top <= 0;
+    }
+
+    // owner only: push an element at the bottom, never blocks
+    public void push(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        long b = bottom;
+        long t = top;
+        AtomicReferenceArray<T> a = ring;
+        if(b-t >= a.length()-1)
+            a = grow(a, t, b);
+        clearStolen(a, t, b);
+        a.set((int) b & (a.length()-1), elem);
+        // the volatile write publishes the element to thieves
+        bottom = b+1;
+    }
+
+    // owner only: pop the most recently pushed element, or null if the deque is empty
+    public T pop(){
+        long b = bottom-1;
+        AtomicReferenceArray<T> a = ring;
+        // claim the slot before looking at top, thieves read bottom before trying to take it
+        bottom = b;
+        long t = top;
+        if(t > b){
+            // it was already empty
+            bottom = b+1;
+            return null;
+        }
+        int i = (int) b & (a.length()-1);
+        T elem = a.get(i);
+        if(t < b){
+            // more than one element, no thief can reach index b
+            a.set(i, null);
+            return elem;
+        }
+        // the last element, race the thieves for it
+        if(!TOP.compareAndSet(this, t, t+1))
+            elem = null;
+        else
+            a.set(i, null);
+        bottom = b+1;
+        return elem;
+    }
+
+    // any thread: steal the oldest element, or null if the deque is empty. lock-free,
+    // a thief that loses the race for an element just tries again
+    public T steal(){
+        while(true){
+            long t = top;
+            long b = bottom;
+            if(t >= b)
+                return null;
+            // read the ring after bottom, so an element pushed after a grow is found in the new ring
+            AtomicReferenceArray<T> a = ring;
+            int i = (int) t & (a.length()-1);
+            T elem = a.get(i);
+            // a thief never clears the slot: once top has moved the owner may already have wrapped
+            // around and pushed into it again. the owner clears stolen slots in push
+            if(elem != null && TOP.compareAndSet(this, t, t+1))
+                return elem;
+        }
+    }
+
+    // owner only: drop the references to elements stolen since the last push, so the GC can
+    // reclaim them. only slots in [b-len, t) are touched: they still hold their own index and
+    // no thief can take them anymore, since top is past them
+    private void clearStolen(AtomicReferenceArray<T> a, long t, long b){
+        for(long i=Math.max(cleared, b-a.length()); i<t; i++)
+            a.set((int) i & (a.length()-1), null);
+        cleared = t;
+    }
+
+    // owner only: copy the live range [t, b) into a ring twice the size
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> old, long t, long b){
+        if(old.length() >= (1 << 30))
+            throw new IllegalStateException("Deque is full");
+        AtomicReferenceArray<T> a = new AtomicReferenceArray<>(old.length() << 1);
+        for(long i=t; i<b; i++)
+            a.set((int) i & (a.length()-1), old.get((int) i & (old.length()-1)));
+        ring = a;
+        return a;
+    }
+}
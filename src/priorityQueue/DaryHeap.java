@@ -0,0 +1,151 @@
+package priorityQueue;
+
+// Min heap with a configurable number of children per node (default 4) stored in a raw array.
+// A wider heap has log_d(n) levels instead of log2(n), so add/swim touch fewer levels and the
+// d children compared in sink() sit next to each other in memory.
+// Unlike PQueue there is no value->index map, remove(T) is a linear scan.
+@SuppressWarnings("unchecked")
+public class DaryHeap <T extends Comparable<T>>{
+
+    private static final int DEFAULT_ARITY = 4;
+
+    // number of children per node
+    private final int d;
+
+    // the number of elements currently inside the heap
+    private int heapSize = 0;
+
+    private T[] heap;
+
+    // construct an initially empty 4-ary heap
+    public DaryHeap(){
+        this(DEFAULT_ARITY, 16);
+    }
+
+    // construct an empty heap with the given arity and initial capacity
+    public DaryHeap(int arity, int capacity){
+        if(arity < 2)
+            throw new IllegalArgumentException("Arity must be at least 2: "+arity);
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        d = arity;
+        heap = (T[]) new Comparable<?>[Math.max(1, capacity)];
+    }
+
+    // returns true or false depending on if the heap is empty
+    public boolean isEmpty(){
+        return heapSize == 0;
+    }
+
+    // returns the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    // clears everything inside the heap, only the used slots are touched
+    public void clear(){
+        java.util.Arrays.fill(heap, 0, heapSize, null);
+        heapSize = 0;
+    }
+
+    // returns the smallest element, or null if the heap is empty
+    public T peek(){
+        return isEmpty() ? null : heap[0];
+    }
+
+    // removes and returns the smallest element, or null if the heap is empty, O(d*log_d(n))
+    public T poll(){
+        return isEmpty() ? null : removeAt(0);
+    }
+
+    // adds an element, the element must not be null, O(log_d(n))
+    public void add(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException();
+        if(heapSize == heap.length)
+            heap = java.util.Arrays.copyOf(heap, heap.length*2);
+        heap[heapSize] = elem;
+        swim(heapSize++);
+    }
+
+    // linear scan, O(n)
+    public boolean contains(T elem){
+        return indexOf(elem) != -1;
+    }
+
+    // removes one occurrence of elem, O(n) to find it and O(d*log_d(n)) to fix the heap
+    public boolean remove(T elem){
+        int i = indexOf(elem);
+        if(i == -1)
+            return false;
+        removeAt(i);
+        return true;
+    }
+
+    private int indexOf(T elem){
+        if(elem==null)
+            return -1;
+        for(int i=0; i<heapSize; i++)
+            if(elem.equals(heap[i]))
+                return i;
+        return -1;
+    }
+
+    private T removeAt(int i){
+        T removed = heap[i];
+        T last = heap[--heapSize];
+        heap[heapSize] = null;
+        if(i != heapSize){
+            heap[i] = last;
+            sink(i);
+            if(heap[i] == last)
+                swim(i);
+        }
+        return removed;
+    }
+
+    // move the element at k up, shifting parents down instead of swapping at each level
+    private void swim(int k){
+        T elem = heap[k];
+        while(k > 0){
+            int parent = (k-1)/d;
+            if(heap[parent].compareTo(elem) <= 0)
+                break;
+            heap[k] = heap[parent];
+            k = parent;
+        }
+        heap[k] = elem;
+    }
+
+    // move the element at k down, pulling the smallest child up at each level
+    private void sink(int k){
+        T elem = heap[k];
+        while(true){
+            int first = d*k+1;
+            if(first >= heapSize)
+                break;
+            int last = Math.min(first+d, heapSize);
+            int smallest = first;
+            for(int c=first+1; c<last; c++)
+                if(heap[c].compareTo(heap[smallest]) < 0)
+                    smallest = c;
+            if(elem.compareTo(heap[smallest]) <= 0)
+                break;
+            heap[k] = heap[smallest];
+            k = smallest;
+        }
+        heap[k] = elem;
+    }
+
+    // checks that the heap invariant holds, for testing
+    public boolean isMinHeap(){
+        for(int i=1; i<heapSize; i++)
+            if(heap[i].compareTo(heap[(i-1)/d]) < 0)
+                return false;
+        return true;
+    }
+
+    @Override public String toString(){
+        return java.util.Arrays.toString(java.util.Arrays.copyOf(heap, heapSize));
+    }
+}
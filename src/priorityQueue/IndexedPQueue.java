@@ -0,0 +1,204 @@
+package priorityQueue;
+
+import java.util.NoSuchElementException;
+
+// Indexed min priority queue: every element is identified by an int handle in [0, maxSize)
+// chosen by the caller (e.g. a vertex id in Dijkstra/A*).
+// Instead of PQueue's Map<T, TreeSet<Integer>> the heap positions live in plain int arrays,
+// so swap() is O(1) with no boxing and no allocation, and the priority of a handle can be
+// changed in place with decreaseKey/increaseKey/update in O(log(n)).
+@SuppressWarnings("unchecked")
+public class IndexedPQueue <T extends Comparable<T>>{
+
+    // the number of elements currently inside the heap
+    private int heapSize = 0;
+
+    // the maximum number of handles
+    private final int maxSize;
+
+    // position of each handle in the heap, -1 if the handle isn't in the queue
+    private final int[] pm;
+
+    // inverse of pm: the handle stored at each heap position
+    private final int[] im;
+
+    // the value (priority) of each handle
+    private final T[] values;
+
+    // construct an empty queue accepting handles 0 .. maxSize-1
+    public IndexedPQueue(int maxSize){
+        if(maxSize <= 0)
+            throw new IllegalArgumentException("maxSize <= 0 is not allowed");
+        this.maxSize = maxSize;
+        pm = new int[maxSize];
+        im = new int[maxSize];
+        values = (T[]) new Comparable<?>[maxSize];
+        java.util.Arrays.fill(pm, -1);
+    }
+
+    // returns the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    // returns true or false depending on if the priority queue is empty
+    public boolean isEmpty(){
+        return heapSize == 0;
+    }
+
+    // clears everything inside the heap, only the used slots are touched, O(n)
+    public void clear(){
+        for(int i=0; i<heapSize; i++){
+            pm[im[i]] = -1;
+            values[im[i]] = null;
+        }
+        heapSize = 0;
+    }
+
+    // test if a handle is in the queue, O(1)
+    public boolean contains(int handle){
+        checkHandle(handle);
+        return pm[handle] != -1;
+    }
+
+    // the value currently associated with handle
+    public T valueOf(int handle){
+        checkContains(handle);
+        return values[handle];
+    }
+
+    // adds a handle with its value, the handle must not be in the queue already, O(log(n))
+    public void add(int handle, T value){
+        if(contains(handle))
+            throw new IllegalArgumentException("Handle already in the queue: "+handle);
+        if(value==null)
+            throw new IllegalArgumentException();
+        pm[handle] = heapSize;
+        im[heapSize] = handle;
+        values[handle] = value;
+        swim(heapSize++);
+    }
+
+    // handle of the element with the lowest priority
+    public int peekHandle(){
+        if(isEmpty())
+            throw new NoSuchElementException("Priority queue is empty");
+        return im[0];
+    }
+
+    // value of the element with the lowest priority, or null if the queue is empty
+    public T peekValue(){
+        return isEmpty() ? null : values[im[0]];
+    }
+
+    // removes the root of the heap and returns its handle, O(log(n))
+    public int pollHandle(){
+        int handle = peekHandle();
+        remove(handle);
+        return handle;
+    }
+
+    // removes a handle from the queue and returns its value, O(log(n))
+    public T remove(int handle){
+        checkContains(handle);
+        int i = pm[handle];
+        T value = values[handle];
+        heapSize--;
+        swap(i, heapSize);
+        // the element moved into i may need to go either way
+        if(i < heapSize){
+            sink(i);
+            swim(i);
+        }
+        values[handle] = null;
+        pm[handle] = -1;
+        return value;
+    }
+
+    // change the value of a handle to anything, O(log(n))
+    public void update(int handle, T value){
+        checkContains(handle);
+        if(value==null)
+            throw new IllegalArgumentException();
+        int i = pm[handle];
+        values[handle] = value;
+        sink(i);
+        swim(i);
+    }
+
+    // lower the value of a handle (e.g. a shorter distance was found), O(log(n))
+    public void decreaseKey(int handle, T value){
+        checkContains(handle);
+        if(value.compareTo(values[handle]) > 0)
+            throw new IllegalArgumentException("New value is larger than the current one");
+        values[handle] = value;
+        swim(pm[handle]);
+    }
+
+    // raise the value of a handle, O(log(n))
+    public void increaseKey(int handle, T value){
+        checkContains(handle);
+        if(value.compareTo(values[handle]) < 0)
+            throw new IllegalArgumentException("New value is smaller than the current one");
+        values[handle] = value;
+        sink(pm[handle]);
+    }
+
+    // tests if the value at heap position i < position j
+    private boolean less(int i, int j){
+        return values[im[i]].compareTo(values[im[j]]) < 0;
+    }
+
+    // bottom up node swim, O(log(n))
+    private void swim(int k){
+        int parent = (k-1)/2;
+        while(k>0 && less(k, parent)){
+            swap(parent, k);
+            k = parent;
+            parent = (k-1)/2;
+        }
+    }
+
+    // top down node sink, O(log(n))
+    private void sink(int k){
+        while(true){
+            int left = 2*k+1;
+            int right = 2*k+2;
+            int smallest = left;
+            if(right < heapSize && less(right, left))
+                smallest = right;
+            if(left >= heapSize || !less(smallest, k))
+                break;
+            swap(smallest, k);
+            k = smallest;
+        }
+    }
+
+    // swap two heap positions and fix the position index, O(1)
+    private void swap(int i, int j){
+        int hi = im[i];
+        int hj = im[j];
+        im[i] = hj;
+        im[j] = hi;
+        pm[hj] = i;
+        pm[hi] = j;
+    }
+
+    private void checkHandle(int handle){
+        if(handle < 0 || handle >= maxSize)
+            throw new IllegalArgumentException("Handle out of range: "+handle);
+    }
+
+    private void checkContains(int handle){
+        if(!contains(handle))
+            throw new NoSuchElementException("Handle not in the queue: "+handle);
+    }
+
+    // checks that the heap invariant holds, for testing
+    public boolean isMinHeap(){
+        for(int i=1; i<heapSize; i++)
+            if(less(i, (i-1)/2))
+                return false;
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+package priorityQueue;
+
+import java.util.NoSuchElementException;
+
+// d-ary min heap keyed by primitive long priorities (e.g. deadlines in nanos) with an arbitrary payload.
+// Keys and payloads live in two parallel arrays, so comparisons are plain long compares with no
+// boxing and no virtual compareTo, and the keys of the d children of a node are contiguous.
+@SuppressWarnings("unchecked")
+public class LongKeyHeap <V>{
+
+    private static final int DEFAULT_ARITY = 4;
+
+    // number of children per node
+    private final int d;
+
+    // the number of elements currently inside the heap
+    private int heapSize = 0;
+
+    private long[] keys;
+    private V[] payloads;
+
+    // construct an initially empty 4-ary heap
+    public LongKeyHeap(){
+        this(DEFAULT_ARITY, 16);
+    }
+
+    // construct an empty heap with the given arity and initial capacity
+    public LongKeyHeap(int arity, int capacity){
+        if(arity < 2)
+            throw new IllegalArgumentException("Arity must be at least 2: "+arity);
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        d = arity;
+        keys = new long[Math.max(1, capacity)];
+        payloads = (V[]) new Object[keys.length];
+    }
+
+    // returns true or false depending on if the heap is empty
+    public boolean isEmpty(){
+        return heapSize == 0;
+    }
+
+    // returns the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    // clears everything inside the heap, only the used payload slots are touched
+    public void clear(){
+        java.util.Arrays.fill(payloads, 0, heapSize, null);
+        heapSize = 0;
+    }
+
+    // smallest key, throws if the heap is empty
+    public long peekKey(){
+        if(isEmpty())
+            throw new NoSuchElementException("Heap is empty");
+        return keys[0];
+    }
+
+    // payload of the smallest key, or null if the heap is empty
+    public V peek(){
+        return isEmpty() ? null : payloads[0];
+    }
+
+    // removes the smallest key and returns its payload, or null if the heap is empty. read peekKey() first if you need the key
+    public V poll(){
+        return isEmpty() ? null : removeAt(0);
+    }
+
+    // adds a payload with the given priority, O(log_d(n))
+    public void add(long key, V payload){
+        if(heapSize == keys.length){
+            keys = java.util.Arrays.copyOf(keys, keys.length*2);
+            payloads = java.util.Arrays.copyOf(payloads, keys.length);
+        }
+        swim(heapSize++, key, payload);
+    }
+
+    // removes one occurrence of payload, O(n) to find it
+    public boolean remove(V payload){
+        for(int i=0; i<heapSize; i++){
+            if(payloads[i]==null ? payload==null : payloads[i].equals(payload)){
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private V removeAt(int i){
+        V removed = payloads[i];
+        heapSize--;
+        long lastKey = keys[heapSize];
+        V lastPayload = payloads[heapSize];
+        payloads[heapSize] = null;
+        if(i != heapSize){
+            int k = sink(i, lastKey, lastPayload);
+            if(k == i)
+                swim(i, lastKey, lastPayload);
+        }
+        return removed;
+    }
+
+    // place (key, payload) at k or above it, shifting larger parents down
+    private void swim(int k, long key, V payload){
+        while(k > 0){
+            int parent = (k-1)/d;
+            if(keys[parent] <= key)
+                break;
+            keys[k] = keys[parent];
+            payloads[k] = payloads[parent];
+            k = parent;
+        }
+        keys[k] = key;
+        payloads[k] = payload;
+    }
+
+    // place (key, payload) at k or below it, pulling the smallest child up at each level, returns the final position
+    private int sink(int k, long key, V payload){
+        while(true){
+            int first = d*k+1;
+            if(first >= heapSize)
+                break;
+            int last = Math.min(first+d, heapSize);
+            int smallest = first;
+            for(int c=first+1; c<last; c++)
+                if(keys[c] < keys[smallest])
+                    smallest = c;
+            if(key <= keys[smallest])
+                break;
+            keys[k] = keys[smallest];
+            payloads[k] = payloads[smallest];
+            k = smallest;
+        }
+        keys[k] = key;
+        payloads[k] = payload;
+        return k;
+    }
+
+    // checks that the heap invariant holds, for testing
+    public boolean isMinHeap(){
+        for(int i=1; i<heapSize; i++)
+            if(keys[i] < keys[(i-1)/d])
+                return false;
+        return true;
+    }
+}
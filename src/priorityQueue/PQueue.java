@@ -26,7 +26,7 @@ public class PQueue <T extends Comparable <T>>{
 
     // construct a priority queue with an initial capacity
     public PQueue(int size){
-        heap = ArrayList<>(size);
+        heap = new ArrayList<>(size);
     }
 
     // using heapify
@@ -37,16 +37,13 @@ public class PQueue <T extends Comparable <T>>{
             mapAdd(elems[i], i);
             heap.add(elems[i]);
         }
-        //heapify process, O(n)
-        for(int i=Math.max(0, (heapSize/2)-1); i>=0; i--)
-            sink(i);
+        heapify();
     }
 
-    // priority queue construction using O(nlog(n))
+    // priority queue construction using heapify, O(n)
     public PQueue(Collection<T> elems){
-        this(elems.size());
-        for(T elem : elems)
-            add(elem);
+        this(Math.max(1, elems.size()));
+        addAll(elems);
     }
 
     // returns true or false depending on if the priority queue is empty
@@ -54,9 +51,9 @@ public class PQueue <T extends Comparable <T>>{
         return heapSize == 0;
     }
 
-    // clears everything inside the heap, O(n)
+    // clears everything inside the heap, slots past heapSize are already null so only the used ones are touched, O(n)
     public void clear(){
-        for(int i=0; i<heapCapacity; i++)
+        for(int i=0; i<heapSize; i++)
             heap.set(i, null);
         heapSize = 0;
         map.clear();
@@ -104,9 +101,117 @@ public class PQueue <T extends Comparable <T>>{
             heapCapacity++;
         }
         mapAdd(elem, heapSize);
+        swim(heapSize);
         heapSize++;
     }
 
+    // adds a batch of elements. small batches are swum in one by one, O(k*log(n+k)),
+    // when that would cost more than rebuilding the whole heap the batch is appended
+    // and the heap is rebuilt with Floyd's heapify instead, O(n+k)
+    public void addAll(Collection<T> elems){
+        int k = elems.size();
+        if(k==0)
+            return;
+        int n = heapSize+k;
+        boolean rebuild = (long) k*(32-Integer.numberOfLeadingZeros(n)) > n;
+        if(!rebuild){
+            for(T elem : elems)
+                add(elem);
+            return;
+        }
+        // validate the whole batch first, a null halfway through must not leave
+        // appended elements behind without the heapify that fixes their order
+        for(T elem : elems)
+            if(elem==null)
+                throw new IllegalArgumentException();
+        for(T elem : elems){
+            if(heapSize < heapCapacity)
+                heap.set(heapSize, elem);
+            else{
+                heap.add(elem);
+                heapCapacity++;
+            }
+            mapAdd(elem, heapSize);
+            heapSize++;
+        }
+        heapify();
+    }
+
+    // removes up to k elements in priority order and hands them to sink, returns how many were removed, O(k*log(n))
+    public int pollN(int k, Collection<? super T> sink){
+        if(sink==null)
+            throw new NullPointerException();
+        int n = Math.min(k, heapSize);
+        for(int i=0; i<n; i++)
+            sink.add(poll());
+        return n;
+    }
+
+    // the k smallest elements in priority order without modifying the heap, O(k*log(k)).
+    // the root is the smallest element and the next one is always a child of an element already
+    // taken, so we walk the heap with a small auxiliary heap of frontier positions
+    public List<T> topK(int k){
+        k = Math.min(k, heapSize);
+        List<T> result = new ArrayList<>(k);
+        if(k<=0)
+            return result;
+        // every step takes one position out and puts at most two children in
+        int[] frontier = new int[k+1];
+        int frontierSize = 0;
+        frontier[frontierSize++] = 0;
+        while(result.size() < k){
+            int top = frontier[0];
+            result.add(heap.get(top));
+            // replace the taken position with its left child (or the last frontier entry) and sift it down
+            int left = 2*top+1, right = 2*top+2;
+            if(left < heapSize)
+                frontier[0] = left;
+            else
+                frontier[0] = frontier[--frontierSize];
+            frontierSink(frontier, frontierSize);
+            if(right < heapSize){
+                frontier[frontierSize] = right;
+                frontierSwim(frontier, frontierSize++);
+            }
+        }
+        return result;
+    }
+
+    // sink frontier[0] within frontier[0..size)
+    private void frontierSink(int[] frontier, int size){
+        int k = 0;
+        while(true){
+            int left = 2*k+1, right = 2*k+2, smallest = left;
+            if(right < size && less(frontier[right], frontier[left]))
+                smallest = right;
+            if(left >= size || less(frontier[k], frontier[smallest]))
+                break;
+            int tmp = frontier[k];
+            frontier[k] = frontier[smallest];
+            frontier[smallest] = tmp;
+            k = smallest;
+        }
+    }
+
+    // swim frontier[k] up within the frontier heap
+    private void frontierSwim(int[] frontier, int k){
+        while(k > 0){
+            int parent = (k-1)/2;
+            if(less(frontier[parent], frontier[k]))
+                break;
+            int tmp = frontier[k];
+            frontier[k] = frontier[parent];
+            frontier[parent] = tmp;
+            k = parent;
+        }
+    }
+
+    // Floyd's bottom up heap construction: sink every non-leaf node starting from the last one, O(n)
+    private void heapify(){
+        for(int i=Math.max(0, (heapSize/2)-1); i>=0; i--)
+            sink(i);
+    }
+
     // tests if the value of node i <= node j
     // this method assumes i and j are valid indices, O(1)
     private boolean less(int i, int j){
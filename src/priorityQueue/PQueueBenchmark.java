@@ -0,0 +1,82 @@
+package priorityQueue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Throughput comparison of a synchronized PQueue, RelaxedPQueue and SkipListPQueue at 1 to 64 threads.
+// Every thread runs the same 50/50 mix of add and poll on a pre-filled queue.
+// Run with: java priorityQueue.PQueueBenchmark [opsPerThread]
+// This is a rough harness (no JMH), so warm the JIT with a few runs and compare orders of magnitude, not percents.
+public class PQueueBenchmark {
+
+    private static final int PREFILL = 100_000;
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    // the operations the benchmark needs, so all three queues can be driven by the same loop
+    private interface Ops {
+        void add(Integer elem);
+        Integer poll();
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        int opsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        System.out.printf("%-8s %16s %16s %16s%n", "threads", "synchronized", "relaxed", "skiplist");
+        for(int threads : THREADS){
+            PQueue<Integer> locked = new PQueue<>();
+            Ops synced = new Ops(){
+                @Override public void add(Integer elem){ synchronized(locked){ locked.add(elem); } }
+                @Override public Integer poll(){ synchronized(locked){ return locked.poll(); } }
+            };
+            RelaxedPQueue<Integer> relaxedQueue = new RelaxedPQueue<>(threads, 2);
+            Ops relaxed = new Ops(){
+                @Override public void add(Integer elem){ relaxedQueue.add(elem); }
+                @Override public Integer poll(){ return relaxedQueue.poll(); }
+            };
+            SkipListPQueue<Integer> skipQueue = new SkipListPQueue<>();
+            Ops skip = new Ops(){
+                @Override public void add(Integer elem){ skipQueue.add(elem); }
+                @Override public Integer poll(){ return skipQueue.poll(); }
+            };
+            System.out.printf("%-8d %16s %16s %16s%n", threads,
+                    format(run(synced, threads, opsPerThread)),
+                    format(run(relaxed, threads, opsPerThread)),
+                    format(run(skip, threads, opsPerThread)));
+        }
+    }
+
+    // returns operations per second over all threads
+    private static double run(Ops queue, int threads, int opsPerThread) throws InterruptedException{
+        for(int i=0; i<PREFILL; i++)
+            queue.add(ThreadLocalRandom.current().nextInt());
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for(int t=0; t<threads; t++){
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                try{
+                    start.await();
+                }
+                catch(InterruptedException e){
+                    return;
+                }
+                for(int i=0; i<opsPerThread; i++){
+                    if((i & 1) == 0)
+                        queue.add(rnd.nextInt());
+                    else
+                        queue.poll();
+                }
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for(Thread worker : workers)
+            worker.join();
+        long elapsed = System.nanoTime()-begin;
+        return (double) threads*opsPerThread/(elapsed/1e9);
+    }
+
+    private static String format(double opsPerSecond){
+        return String.format("%.2f Mops/s", opsPerSecond/1e6);
+    }
+}
@@ -0,0 +1,169 @@
+package priorityQueue;
+
+// Mergeable min heap (pairing heap). Every element lives in its own node and add() returns that
+// node as a Handle, which can later be passed to decreaseKey or remove.
+//
+// add, peek and meld are O(1): two heaps are combined by making the larger root a child of the
+// smaller one, so merging per-shard queues no longer re-adds every element. poll is O(log(n))
+// amortized and decreaseKey is o(log(n)) amortized (cheap in practice).
+//
+// Nodes use the leftmost-child / right-sibling layout, prev points to the previous sibling,
+// or to the parent for a leftmost child, so a node can be cut out of its parent in O(1).
+// poll() and remove() are iterative, so even very wide root lists can't blow the stack.
+public class PairingHeap <T extends Comparable<T>>{
+
+    // opaque reference to an element inside the heap
+    public static final class Handle <T>{
+        private T value;
+        private Handle <T> child, next, prev;
+        private Handle(T value){
+            this.value = value;
+        }
+        public T value(){
+            return value;
+        }
+    }
+
+    private Handle <T> root = null;
+    private int heapSize = 0;
+
+    // returns true or false depending on if the heap is empty
+    public boolean isEmpty(){
+        return heapSize == 0;
+    }
+
+    // returns the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    // drops every element, O(1), old handles must not be used anymore
+    public void clear(){
+        root = null;
+        heapSize = 0;
+    }
+
+    // returns the smallest element, or null if the heap is empty, O(1)
+    public T peek(){
+        return root == null ? null : root.value;
+    }
+
+    // adds an element and returns its handle, O(1)
+    public Handle<T> add(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException();
+        Handle <T> node = new Handle<>(elem);
+        root = link(root, node);
+        heapSize++;
+        return node;
+    }
+
+    // removes the smallest element, or returns null if the heap is empty, O(log(n)) amortized
+    public T poll(){
+        if(root == null)
+            return null;
+        Handle <T> old = root;
+        root = combine(old.child);
+        heapSize--;
+        old.child = null;
+        return old.value;
+    }
+
+    // moves every element of other into this heap in O(1), other is left empty.
+    // handles of other stay valid and now belong to this heap
+    public void meld(PairingHeap<T> other){
+        if(other == null || other == this || other.root == null)
+            return;
+        root = link(root, other.root);
+        heapSize += other.heapSize;
+        other.root = null;
+        other.heapSize = 0;
+    }
+
+    // lower the value of an element, the handle must belong to this heap
+    public void decreaseKey(Handle <T> handle, T value){
+        if(value==null)
+            throw new IllegalArgumentException();
+        if(value.compareTo(handle.value) > 0)
+            throw new IllegalArgumentException("New value is larger than the current one");
+        handle.value = value;
+        if(handle == root)
+            return;
+        // cut the subtree out and link it back at the root
+        cut(handle);
+        root = link(root, handle);
+    }
+
+    // removes the element behind a handle that belongs to this heap, O(log(n)) amortized
+    public T remove(Handle <T> handle){
+        if(handle == root)
+            return poll();
+        cut(handle);
+        root = link(root, combine(handle.child));
+        handle.child = null;
+        heapSize--;
+        return handle.value;
+    }
+
+    // detach node (with its subtree) from its parent / siblings
+    private void cut(Handle <T> node){
+        if(node.prev.child == node)
+            node.prev.child = node.next;
+        else
+            node.prev.next = node.next;
+        if(node.next != null)
+            node.next.prev = node.prev;
+        node.next = node.prev = null;
+    }
+
+    // make the larger root the leftmost child of the smaller one, both must be detached roots
+    private Handle<T> link(Handle <T> a, Handle <T> b){
+        if(a == null)
+            return b;
+        if(b == null)
+            return a;
+        if(b.value.compareTo(a.value) < 0){
+            Handle <T> tmp = a;
+            a = b;
+            b = tmp;
+        }
+        b.prev = a;
+        b.next = a.child;
+        if(a.child != null)
+            a.child.prev = b;
+        a.child = b;
+        return a;
+    }
+
+    // two-pass pairing of a sibling list into a single tree: pair them up left to right,
+    // then fold the pairs together right to left
+    private Handle<T> combine(Handle <T> first){
+        if(first == null)
+            return null;
+        // first pass, the pairs are chained through next in reverse order
+        Handle <T> pairs = null;
+        Handle <T> cur = first;
+        while(cur != null){
+            Handle <T> a = cur;
+            Handle <T> b = a.next;
+            cur = b == null ? null : b.next;
+            a.next = a.prev = null;
+            if(b != null)
+                b.next = b.prev = null;
+            Handle <T> merged = link(a, b);
+            merged.next = pairs;
+            pairs = merged;
+        }
+        // second pass, the reversed chain means we already start from the rightmost pair
+        Handle <T> result = pairs;
+        pairs = pairs.next;
+        result.next = null;
+        while(pairs != null){
+            Handle <T> next = pairs.next;
+            pairs.next = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package priorityQueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Relaxed concurrent priority queue (a "MultiQueue"): c*threads independent heaps, each behind its own lock.
+// add() puts the element into a random heap, poll() looks at the tops of two random heaps and
+// takes the smaller one. Threads almost never meet on the same lock, so throughput scales with
+// the number of threads, at the price of ordering: poll() returns an element that is close to
+// the minimum (in practice among the smallest few * number of heaps), not necessarily the minimum.
+// Use SkipListPQueue when strict ordering matters.
+public class RelaxedPQueue <T extends Comparable<T>>{
+
+    private static final int DEFAULT_QUEUES_PER_THREAD = 2;
+
+    private final DaryHeap<T>[] heaps;
+    private final ReentrantLock[] locks;
+
+    // smallest element of each heap, republished after every change so poll() can compare without locking
+    private final AtomicReferenceArray<T> tops;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    // construct a queue sized for the number of available processors
+    public RelaxedPQueue(){
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUES_PER_THREAD);
+    }
+
+    // construct a queue with queuesPerThread heaps for each of the expected threads
+    @SuppressWarnings("unchecked")
+    public RelaxedPQueue(int threads, int queuesPerThread){
+        if(threads <= 0 || queuesPerThread <= 0)
+            throw new IllegalArgumentException("threads and queuesPerThread must be positive");
+        int n = Math.max(2, threads*queuesPerThread);
+        heaps = (DaryHeap<T>[]) new DaryHeap<?>[n];
+        locks = new ReentrantLock[n];
+        for(int i=0; i<n; i++){
+            heaps[i] = new DaryHeap<>();
+            locks[i] = new ReentrantLock();
+        }
+        tops = new AtomicReferenceArray<>(n);
+    }
+
+    // approximate number of elements, exact when no other thread is using the queue
+    public int size(){
+        return size.get();
+    }
+
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    // adds an element to a random heap, the element must not be null
+    public void add(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        while(true){
+            int i = rnd.nextInt(heaps.length);
+            // someone else holds this heap, just pick another one
+            if(!locks[i].tryLock())
+                continue;
+            try{
+                heaps[i].add(elem);
+                tops.set(i, heaps[i].peek());
+            }
+            finally{
+                locks[i].unlock();
+            }
+            size.incrementAndGet();
+            return;
+        }
+    }
+
+    // removes an element close to the minimum, or returns null if the queue is empty
+    public T poll(){
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for(int attempt=0; attempt<heaps.length; attempt++){
+            int i = rnd.nextInt(heaps.length);
+            int j = rnd.nextInt(heaps.length);
+            T ti = tops.get(i), tj = tops.get(j);
+            if(ti == null && tj == null)
+                continue;
+            // take from the heap with the smaller top
+            int pick = tj == null || (ti != null && ti.compareTo(tj) <= 0) ? i : j;
+            if(!locks[pick].tryLock())
+                continue;
+            try{
+                T elem = heaps[pick].poll();
+                tops.set(pick, heaps[pick].peek());
+                if(elem != null){
+                    size.decrementAndGet();
+                    return elem;
+                }
+            }
+            finally{
+                locks[pick].unlock();
+            }
+        }
+        // random probing kept missing, fall back to a full sweep before reporting empty
+        for(int i=0; i<heaps.length; i++){
+            if(tops.get(i) == null)
+                continue;
+            locks[i].lock();
+            try{
+                T elem = heaps[i].poll();
+                tops.set(i, heaps[i].peek());
+                if(elem != null){
+                    size.decrementAndGet();
+                    return elem;
+                }
+            }
+            finally{
+                locks[i].unlock();
+            }
+        }
+        return null;
+    }
+
+    // smallest of the heap tops, or null if the queue looks empty. only an estimate under concurrent updates
+    public T peek(){
+        T best = null;
+        for(int i=0; i<heaps.length; i++){
+            T top = tops.get(i);
+            if(top != null && (best == null || top.compareTo(best) < 0))
+                best = top;
+        }
+        return best;
+    }
+}
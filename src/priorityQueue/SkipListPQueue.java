@@ -0,0 +1,64 @@
+package priorityQueue;
+
+import binarySearchTree.ConcurrentOrderedSet;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Strictly ordered lock-free priority queue built on the lock-free skip list of ConcurrentOrderedSet.
+// Equal priorities are allowed: every element is wrapped with a unique sequence number that breaks
+// ties in insertion order. poll() walks the bottom level from the front and claims the first
+// element it manages to remove, so pollers racing for the minimum fall through to the next one
+// instead of waiting. No locks are taken by add, poll or peek.
+public class SkipListPQueue <T extends Comparable<T>>{
+
+    private static final class Entry <T extends Comparable<T>> implements Comparable<Entry<T>>{
+        final T elem;
+        final long seq;
+        Entry(T elem, long seq){
+            this.elem = elem;
+            this.seq = seq;
+        }
+        @Override
+        public int compareTo(Entry<T> other){
+            int cmp = elem.compareTo(other.elem);
+            return cmp != 0 ? cmp : Long.compare(seq, other.seq);
+        }
+    }
+
+    private final ConcurrentOrderedSet<Entry<T>> set = new ConcurrentOrderedSet<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // approximate number of elements, exact when no other thread is using the queue
+    public int size(){
+        return set.size();
+    }
+
+    public boolean isEmpty(){
+        return set.isEmpty();
+    }
+
+    // adds an element, the element must not be null, O(log(n)) expected
+    public void add(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException();
+        set.add(new Entry<>(elem, sequence.getAndIncrement()));
+    }
+
+    // removes the smallest element, or returns null if the queue is empty
+    public T poll(){
+        for(Iterator<Entry<T>> it = set.iterator(); it.hasNext(); ){
+            Entry<T> entry = it.next();
+            // another poller may have claimed it first, then try the next one
+            if(set.remove(entry))
+                return entry.elem;
+        }
+        return null;
+    }
+
+    // the smallest element, or null if the queue is empty
+    public T peek(){
+        Iterator<Entry<T>> it = set.iterator();
+        return it.hasNext() ? it.next().elem : null;
+    }
+}
@@ -0,0 +1,108 @@
+package priorityQueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Bounded priority queue that keeps only the K largest elements it has been offered
+// (e.g. the top N slowest requests). Internally a min heap of at most K elements: the root
+// is the smallest element kept, so a new element either loses against the root in O(1)
+// or replaces it with a single sink, O(log(K)). Memory stays O(K) no matter how much is offered.
+@SuppressWarnings("unchecked")
+public class TopKQueue <T extends Comparable<T>>{
+
+    private final T[] heap;
+    private int heapSize = 0;
+
+    public TopKQueue(int k){
+        if(k <= 0)
+            throw new IllegalArgumentException("k must be positive: "+k);
+        heap = (T[]) new Comparable<?>[k];
+    }
+
+    // the maximum number of elements kept
+    public int capacity(){
+        return heap.length;
+    }
+
+    // returns the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    // returns true or false depending on if the queue is empty
+    public boolean isEmpty(){
+        return heapSize == 0;
+    }
+
+    // only the used slots are cleared, O(size)
+    public void clear(){
+        java.util.Arrays.fill(heap, 0, heapSize, null);
+        heapSize = 0;
+    }
+
+    // the smallest element kept, i.e. the bar a new element has to beat once the queue is full
+    public T peek(){
+        return isEmpty() ? null : heap[0];
+    }
+
+    // offer an element, returns true if it is now among the top K
+    public boolean offer(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException();
+        if(heapSize < heap.length){
+            heap[heapSize] = elem;
+            swim(heapSize++);
+            return true;
+        }
+        if(elem.compareTo(heap[0]) <= 0)
+            return false;
+        // replace-top: the old minimum drops out, the new element sinks to its place
+        heap[0] = elem;
+        sink(0);
+        return true;
+    }
+
+    // the kept elements, largest first, O(K*log(K)), the queue is not modified
+    public List<T> toSortedList(){
+        List<T> list = unordered();
+        list.sort(Collections.reverseOrder());
+        return list;
+    }
+
+    // the kept elements in heap order, cheaper than toSortedList when the order doesn't matter
+    List<T> unordered(){
+        List<T> list = new ArrayList<>(heapSize);
+        for(int i=0; i<heapSize; i++)
+            list.add(heap[i]);
+        return list;
+    }
+
+    private void swim(int k){
+        T elem = heap[k];
+        while(k > 0){
+            int parent = (k-1)/2;
+            if(heap[parent].compareTo(elem) <= 0)
+                break;
+            heap[k] = heap[parent];
+            k = parent;
+        }
+        heap[k] = elem;
+    }
+
+    private void sink(int k){
+        T elem = heap[k];
+        while(true){
+            int left = 2*k+1;
+            if(left >= heapSize)
+                break;
+            int right = left+1;
+            int smallest = right < heapSize && heap[right].compareTo(heap[left]) < 0 ? right : left;
+            if(elem.compareTo(heap[smallest]) <= 0)
+                break;
+            heap[k] = heap[smallest];
+            k = smallest;
+        }
+        heap[k] = elem;
+    }
+}
@@ -0,0 +1,86 @@
+package priorityQueue;
+
+import java.util.List;
+
+// Top K largest elements over a sliding time window, e.g. "the 100 slowest requests of the last 5 minutes".
+// The window is split into a ring of buckets, each with its own TopKQueue. A bucket whose time slot
+// has passed is simply cleared and reused when time comes back around to it, so old entries expire
+// a whole bucket at a time without rebuilding anything. Memory is O(buckets*K) and offer is O(log(K)).
+// The window boundary has the granularity of one bucket.
+public class WindowedTopK <T extends Comparable<T>>{
+
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final int k;
+    private final long bucketMillis;
+    private final TopKQueue<T>[] buckets;
+
+    // the time slot (now / bucketMillis) each bucket currently holds, UNUSED for never used
+    private final long[] slots;
+
+    // the latest slot any event has landed in, UNUSED before the first one
+    private long newestSlot = UNUSED;
+
+    @SuppressWarnings("unchecked")
+    public WindowedTopK(int k, long windowMillis, int numBuckets){
+        if(k <= 0 || windowMillis <= 0 || numBuckets <= 0)
+            throw new IllegalArgumentException("k, windowMillis and numBuckets must be positive");
+        this.k = k;
+        this.bucketMillis = Math.max(1, windowMillis/numBuckets);
+        buckets = (TopKQueue<T>[]) new TopKQueue<?>[numBuckets];
+        slots = new long[numBuckets];
+        for(int i=0; i<numBuckets; i++){
+            buckets[i] = new TopKQueue<>(k);
+            slots[i] = UNUSED;
+        }
+    }
+
+    // offer an element observed now
+    public boolean offer(T elem){
+        return offer(elem, System.currentTimeMillis());
+    }
+
+    // offer an element observed at nowMillis, returns true if it is among the top K of its bucket.
+    // a late event whose slot already fell out of the window is dropped (returns false)
+    public boolean offer(T elem, long nowMillis){
+        TopKQueue<T> bucket = bucketFor(nowMillis);
+        return bucket != null && bucket.offer(elem);
+    }
+
+    // the top K of the current window, largest first
+    public List<T> topK(){
+        return topK(System.currentTimeMillis());
+    }
+
+    // the top K of the window ending at nowMillis, largest first, O(buckets*K*log(K))
+    public List<T> topK(long nowMillis){
+        long slot = Math.floorDiv(nowMillis, bucketMillis);
+        TopKQueue<T> merged = new TopKQueue<>(k);
+        for(int i=0; i<buckets.length; i++){
+            // only buckets that belong to the last numBuckets slots are inside the window,
+            // buckets already holding later slots are ahead of nowMillis
+            if(slots[i] == UNUSED || slots[i] > slot || slot-slots[i] >= buckets.length)
+                continue;
+            for(T elem : buckets[i].unordered())
+                merged.offer(elem);
+        }
+        return merged.toSortedList();
+    }
+
+    // the bucket for the slot of nowMillis, wiping it if it still holds an expired slot, or null
+    // if the slot is already outside the window. buckets are only recycled when time moves
+    // forward, so an out-of-order event can never wipe a bucket of the live window
+    private TopKQueue<T> bucketFor(long nowMillis){
+        long slot = Math.floorDiv(nowMillis, bucketMillis);
+        if(newestSlot != UNUSED && slot <= newestSlot-buckets.length)
+            return null;
+        if(newestSlot == UNUSED || slot > newestSlot)
+            newestSlot = slot;
+        int i = (int) Math.floorMod(slot, (long) buckets.length);
+        if(slots[i] != slot){
+            buckets[i].clear();
+            slots[i] = slot;
+        }
+        return buckets[i];
+    }
+}
@@ -0,0 +1,86 @@
+package queue;
+
+import java.util.concurrent.TimeUnit;
+
+// the blocking and timed flavours of offer/poll shared by the concurrent queues,
+// built on top of the non-blocking tryOffer/tryPoll plus a WaitStrategy
+abstract class AbstractConcurrentQueue <T> {
+
+    protected final WaitStrategy waitStrategy;
+
+    protected AbstractConcurrentQueue(WaitStrategy waitStrategy){
+        if(waitStrategy==null)
+            throw new IllegalArgumentException("WaitStrategy can't be null");
+        this.waitStrategy = waitStrategy;
+    }
+
+    // add an element at the back of the queue if there is room, never waits
+    public abstract boolean tryOffer(T elem);
+
+    // remove the front element, or return null if the queue is empty, never waits
+    public abstract T tryPoll();
+
+    // look at the front element, or return null if the queue is empty
+    public abstract T tryPeek();
+
+    // approximate number of elements, exact only when no other thread is using the queue
+    public abstract int size();
+
+    public abstract int capacity();
+
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    // add an element at the back of the queue, waiting for room if the queue is full
+    public void offer(T elem){
+        for(int attempt=0; !tryOffer(elem); attempt++)
+            waitStrategy.idle(attempt);
+    }
+
+    // add an element, waiting at most timeout for room, returns false if it timed out
+    public boolean offer(T elem, long timeout, TimeUnit unit){
+        long deadline = System.nanoTime()+unit.toNanos(timeout);
+        for(int attempt=0; !tryOffer(elem); attempt++){
+            if(System.nanoTime()-deadline >= 0)
+                return false;
+            waitStrategy.idle(attempt);
+        }
+        return true;
+    }
+
+    // poll an element from the front of the queue, throws if the Queue is Empty (same as Queue.poll)
+    public T poll(){
+        T elem = tryPoll();
+        if(elem==null)
+            throw new RuntimeException("Queue is Empty");
+        return elem;
+    }
+
+    // poll an element, waiting at most timeout for one to show up, returns null if it timed out
+    public T poll(long timeout, TimeUnit unit){
+        long deadline = System.nanoTime()+unit.toNanos(timeout);
+        T elem;
+        for(int attempt=0; (elem = tryPoll())==null; attempt++){
+            if(System.nanoTime()-deadline >= 0)
+                return null;
+            waitStrategy.idle(attempt);
+        }
+        return elem;
+    }
+
+    // peek the element in front of the queue, throws if the Queue is Empty
+    public T peek(){
+        T elem = tryPeek();
+        if(elem==null)
+            throw new RuntimeException("Queue is Empty");
+        return elem;
+    }
+
+    // round up to a power of two so the ring index is a mask
+    static int ringSize(int capacity){
+        if(capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        return capacity==1 ? 1 : Integer.highestOneBit(capacity-1) << 1;
+    }
+}
@@ -0,0 +1,149 @@
+package queue;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Queue on a growable circular array. The capacity is always a power of two so the
+// wrap-around is a mask instead of a modulo, and offer/poll don't allocate anything.
+@SuppressWarnings("unchecked")
+public class ArrayQueue <T> implements Iterable<T> {
+
+    private T[] buffer;
+    private int mask;
+    // index of the front element
+    private int head = 0;
+    // index of the next free slot at the back
+    private int tail = 0;
+    private int size = 0;
+    private int modCount = 0;
+
+    public ArrayQueue(){
+        this(16);
+    }
+    public ArrayQueue(int capacity){
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        int cap = capacity <= 1 ? 1 : Integer.highestOneBit(capacity-1) << 1;
+        buffer = (T[]) new Object[cap];
+        mask = cap-1;
+    }
+
+    // return the size of the Queue
+    public int size(){
+        return size;
+    }
+
+    // return if the queue is empty or not
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    // peek the element in front of the queue, throws if the Queue is Empty
+    public T peek(){
+        if(isEmpty())
+            throw new RuntimeException("Queue is Empty");
+        return buffer[head];
+    }
+
+    // poll an element from the front of the queue, throws if the Queue is Empty
+    public T poll(){
+        if(isEmpty())
+            throw new RuntimeException("Queue is Empty");
+        T elem = buffer[head];
+        buffer[head] = null; // don't hold on to it
+        head = (head+1) & mask;
+        size--;
+        modCount++;
+        return elem;
+    }
+
+    // add an element at the back of the queue
+    public void offer(T elem){
+        if(size == buffer.length)
+            grow(size+1);
+        buffer[tail] = elem;
+        tail = (tail+1) & mask;
+        size++;
+        modCount++;
+    }
+
+    // add a whole burst at the back, growing at most once
+    public void offerAll(Collection<? extends T> elems){
+        if(size+elems.size() > buffer.length)
+            grow(size+elems.size());
+        for(T elem : elems){
+            buffer[tail] = elem;
+            tail = (tail+1) & mask;
+        }
+        size += elems.size();
+        modCount++;
+    }
+
+    // move up to max elements from the front of the queue into sink, returns how many were moved.
+    // each element is only taken off the queue once sink.add accepted it, so if add throws the
+    // queue still holds everything that wasn't moved
+    public int drainTo(Collection<? super T> sink, int max){
+        if(sink==null)
+            throw new NullPointerException();
+        if(max < 0)
+            throw new IllegalArgumentException("max must not be negative: "+max);
+        int n = Math.min(max, size);
+        for(int i=0; i<n; i++){
+            sink.add(buffer[head]);
+            buffer[head] = null;
+            head = (head+1) & mask;
+            size--;
+            modCount++;
+        }
+        return n;
+    }
+
+    // empty the queue, only the occupied slots are cleared
+    public void clear(){
+        while(size > 0){
+            buffer[head] = null;
+            head = (head+1) & mask;
+            size--;
+        }
+        head = tail = 0;
+        modCount++;
+    }
+
+    // copy into the next power of two that fits, unwrapping the ring so head lands at 0
+    private void grow(int minCapacity){
+        if(minCapacity > (1 << 30))
+            throw new IllegalStateException("Queue too large");
+        int cap = Integer.highestOneBit(minCapacity-1) << 1;
+        T[] new_buffer = (T[]) new Object[cap];
+        int firstPart = Math.min(size, buffer.length-head);
+        System.arraycopy(buffer, head, new_buffer, 0, firstPart);
+        System.arraycopy(buffer, 0, new_buffer, firstPart, size-firstPart);
+        buffer = new_buffer;
+        mask = cap-1;
+        head = 0;
+        tail = size & mask;
+    }
+
+    // return an iterator going from front to back, fails fast if the queue is modified
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int i = 0;
+            private final int expectedModCount = modCount;
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+            @Override
+            public T next() {
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(i >= size)
+                    throw new NoSuchElementException();
+                return buffer[(head+i++) & mask];
+            }
+        };
+    }
+}
@@ -0,0 +1,241 @@
+package queue;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded blocking queue with back-pressure: put() waits while the queue is full and take()
+// waits while it is empty, so a fast stage can't grow the queue without limit.
+// Waiting is done on a ReentrantLock/Condition rather than synchronized/wait, a virtual thread
+// blocked here unmounts from its carrier instead of pinning it, so thousands of pipeline
+// stages can wait cheaply. Nothing is allocated per element, the storage is a ring like ArrayQueue.
+//
+// close() wakes every waiter: put/offer fail from then on, and take/poll keep returning the
+// elements that are left and then return null to mark the end of the stream.
+@SuppressWarnings("unchecked")
+public class BoundedBlockingQueue <T> {
+
+    private final T[] buffer;
+    private int head = 0;
+    private int tail = 0;
+    private int size = 0;
+    private boolean closed = false;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public BoundedBlockingQueue(int capacity){
+        if(capacity <= 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        buffer = (T[]) new Object[capacity];
+    }
+
+    // return the size of the Queue
+    public int size(){
+        lock.lock();
+        try{
+            return size;
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // return if the queue is empty or not
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    public int capacity(){
+        return buffer.length;
+    }
+
+    public boolean isClosed(){
+        lock.lock();
+        try{
+            return closed;
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // add an element at the back of the queue, waiting while it is full
+    public void put(T elem) throws InterruptedException{
+        checkNotNull(elem);
+        lock.lockInterruptibly();
+        try{
+            while(size == buffer.length && !closed)
+                notFull.await();
+            checkOpen();
+            enqueue(elem);
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // add an element if there is room right now, never waits
+    public boolean tryOffer(T elem){
+        checkNotNull(elem);
+        lock.lock();
+        try{
+            checkOpen();
+            if(size == buffer.length)
+                return false;
+            enqueue(elem);
+            return true;
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // add an element, waiting at most timeout for room, returns false if it timed out
+    public boolean offer(T elem, long timeout, TimeUnit unit) throws InterruptedException{
+        checkNotNull(elem);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try{
+            while(size == buffer.length && !closed){
+                if(nanos <= 0)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            checkOpen();
+            enqueue(elem);
+            return true;
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // remove the front element, waiting while the queue is empty.
+    // returns null once the queue is closed and drained
+    public T take() throws InterruptedException{
+        lock.lockInterruptibly();
+        try{
+            while(size == 0 && !closed)
+                notEmpty.await();
+            return size == 0 ? null : dequeue();
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // remove the front element, or return null if the queue is empty, never waits
+    public T tryPoll(){
+        lock.lock();
+        try{
+            return size == 0 ? null : dequeue();
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // remove the front element, waiting at most timeout for one, returns null if it timed out or the queue is closed and drained
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException{
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try{
+            while(size == 0 && !closed){
+                if(nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return size == 0 ? null : dequeue();
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // peek the element in front of the queue, or null if it is empty
+    public T tryPeek(){
+        lock.lock();
+        try{
+            return size == 0 ? null : buffer[head];
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // move up to max elements into sink under one lock acquisition, returns how many were moved.
+    // an element is only dequeued after sink.add accepted it, and the producers are woken up for
+    // whatever was moved even if add throws halfway
+    public int drainTo(Collection<? super T> sink, int max){
+        if(sink==null)
+            throw new NullPointerException();
+        if(max < 0)
+            throw new IllegalArgumentException("max must not be negative: "+max);
+        lock.lock();
+        int moved = 0;
+        try{
+            int n = Math.min(max, size);
+            while(moved < n){
+                sink.add(buffer[head]);
+                dequeueNoSignal();
+                moved++;
+            }
+            return moved;
+        }
+        finally{
+            if(moved > 0)
+                notFull.signalAll();
+            lock.unlock();
+        }
+    }
+
+    // stop accepting elements and wake up everybody who is waiting
+    public void close(){
+        lock.lock();
+        try{
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        }
+        finally{
+            lock.unlock();
+        }
+    }
+
+    // the helpers below must be called with the lock held
+    private void enqueue(T elem){
+        buffer[tail] = elem;
+        if(++tail == buffer.length)
+            tail = 0;
+        size++;
+        notEmpty.signal();
+    }
+
+    private T dequeue(){
+        T elem = dequeueNoSignal();
+        notFull.signal();
+        return elem;
+    }
+
+    private T dequeueNoSignal(){
+        T elem = buffer[head];
+        buffer[head] = null;
+        if(++head == buffer.length)
+            head = 0;
+        size--;
+        return elem;
+    }
+
+    private void checkOpen(){
+        if(closed)
+            throw new IllegalStateException("Queue is closed");
+    }
+
+    private static void checkNotNull(Object elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+    }
+}
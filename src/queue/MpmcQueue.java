@@ -0,0 +1,108 @@
+package queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bounded lock-free queue for any number of producers and consumers.
+// Every slot carries its own sequence number telling whose turn it is: a producer may fill
+// slot i when its sequence equals the enqueue position, a consumer may empty it when the
+// sequence equals the dequeue position + 1. Producers and consumers claim positions with a CAS
+// on their own padded counter, so they only contend with threads on the same side.
+@SuppressWarnings("unchecked")
+public class MpmcQueue <T> extends AbstractConcurrentQueue<T> {
+
+    private final T[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final Sequence enqueuePos = new Sequence(0);
+    private final Sequence dequeuePos = new Sequence(0);
+
+    public MpmcQueue(int capacity){
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpmcQueue(int capacity, WaitStrategy waitStrategy){
+        super(waitStrategy);
+        int size = ringSize(capacity);
+        buffer = (T[]) new Object[size];
+        sequences = new AtomicLongArray(size);
+        for(int i=0; i<size; i++)
+            sequences.set(i, i);
+        mask = size-1;
+    }
+
+    @Override
+    public boolean tryOffer(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        long pos = enqueuePos.get();
+        int index;
+        while(true){
+            index = (int) pos & mask;
+            long dif = sequences.getAcquire(index)-pos;
+            if(dif == 0){
+                // the slot is free, try to claim this position
+                if(enqueuePos.compareAndSet(pos, pos+1))
+                    break;
+                pos = enqueuePos.get();
+            }
+            // the slot still holds an element from the previous lap, so the queue is full
+            else if(dif < 0)
+                return false;
+            // another producer got here first
+            else
+                pos = enqueuePos.get();
+        }
+        buffer[index] = elem;
+        // publish the element to consumers
+        sequences.setRelease(index, pos+1);
+        return true;
+    }
+
+    @Override
+    public T tryPoll(){
+        long pos = dequeuePos.get();
+        int index;
+        while(true){
+            index = (int) pos & mask;
+            long dif = sequences.getAcquire(index)-(pos+1);
+            if(dif == 0){
+                if(dequeuePos.compareAndSet(pos, pos+1))
+                    break;
+                pos = dequeuePos.get();
+            }
+            // nothing has been published in this slot yet, so the queue is empty
+            else if(dif < 0)
+                return null;
+            else
+                pos = dequeuePos.get();
+        }
+        T elem = buffer[index];
+        buffer[index] = null;
+        // hand the slot to the producer of the next lap
+        sequences.setRelease(index, pos+mask+1);
+        return elem;
+    }
+
+    // best effort: with concurrent consumers the element may already be gone when this returns
+    @Override
+    public T tryPeek(){
+        long pos = dequeuePos.get();
+        int index = (int) pos & mask;
+        if(sequences.getAcquire(index) != pos+1)
+            return null;
+        return buffer[index];
+    }
+
+    @Override
+    public int size(){
+        long h = dequeuePos.get();
+        long t = enqueuePos.get();
+        return (int) Math.max(0, Math.min(t-h, buffer.length));
+    }
+
+    @Override
+    public int capacity(){
+        return buffer.length;
+    }
+}
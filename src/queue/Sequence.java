@@ -0,0 +1,57 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// a long counter padded on both sides so that two sequences (e.g. the head and the tail
+// of a ring) never end up on the same cache line and bounce it between cores.
+// the padding lives in super/sub classes because the JVM is free to reorder fields within one class.
+class LhsPadding {
+    protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+class SequenceValue extends LhsPadding {
+    protected volatile long value;
+}
+
+class Sequence extends SequenceValue {
+    protected long p9, p10, p11, p12, p13, p14, p15;
+
+    private static final VarHandle VALUE;
+    static {
+        try{
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        }
+        catch(ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    Sequence(long initial){
+        VALUE.setRelease(this, initial);
+    }
+
+    // acquire read, pairs with setRelease on the other side
+    long get(){
+        return (long) VALUE.getAcquire(this);
+    }
+
+    // release write, cheaper than a volatile store and enough for single-writer sequences
+    void setRelease(long v){
+        VALUE.setRelease(this, v);
+    }
+
+    // plain read/write for a value only one thread ever touches (e.g. a cached copy of the
+    // other side's sequence), it still gets the padding but pays for no ordering
+    long getPlain(){
+        return (long) VALUE.get(this);
+    }
+
+    void setPlain(long v){
+        VALUE.set(this, v);
+    }
+
+    boolean compareAndSet(long expected, long v){
+        return VALUE.compareAndSet(this, expected, v);
+    }
+}
@@ -0,0 +1,89 @@
+package queue;
+
+// Bounded lock-free queue for exactly one producer thread and one consumer thread.
+// The head and tail sequences are padded so they sit on separate cache lines, and each side
+// keeps a cached copy of the other side's sequence so it only reads the shared one when
+// the ring looks full (producer) or empty (consumer).
+// Using it from more than one producer or more than one consumer is not safe, use MpmcQueue for that.
+@SuppressWarnings("unchecked")
+public class SpscQueue <T> extends AbstractConcurrentQueue<T> {
+
+    private final T[] buffer;
+    private final int mask;
+
+    // next slot to read, only written by the consumer
+    private final Sequence head = new Sequence(0);
+    // next slot to write, only written by the producer
+    private final Sequence tail = new Sequence(0);
+
+    // producer's view of head and consumer's view of tail. each one is written by its own
+    // side on every miss, so they are padded too instead of sharing one cache line
+    private final Sequence cachedHead = new Sequence(0);
+    private final Sequence cachedTail = new Sequence(0);
+
+    public SpscQueue(int capacity){
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public SpscQueue(int capacity, WaitStrategy waitStrategy){
+        super(waitStrategy);
+        int size = ringSize(capacity);
+        buffer = (T[]) new Object[size];
+        mask = size-1;
+    }
+
+    // producer side
+    @Override
+    public boolean tryOffer(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        long t = tail.get();
+        if(t-cachedHead.getPlain() >= buffer.length){
+            cachedHead.setPlain(head.get());
+            if(t-cachedHead.getPlain() >= buffer.length)
+                return false;
+        }
+        buffer[(int) t & mask] = elem;
+        // publishes the element to the consumer
+        tail.setRelease(t+1);
+        return true;
+    }
+
+    // consumer side
+    @Override
+    public T tryPoll(){
+        long h = head.get();
+        if(h >= cachedTail.getPlain()){
+            cachedTail.setPlain(tail.get());
+            if(h >= cachedTail.getPlain())
+                return null;
+        }
+        int index = (int) h & mask;
+        T elem = buffer[index];
+        buffer[index] = null;
+        // hands the slot back to the producer
+        head.setRelease(h+1);
+        return elem;
+    }
+
+    // consumer side
+    @Override
+    public T tryPeek(){
+        long h = head.get();
+        if(h >= tail.get())
+            return null;
+        return buffer[(int) h & mask];
+    }
+
+    @Override
+    public int size(){
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(t-h, buffer.length));
+    }
+
+    @Override
+    public int capacity(){
+        return buffer.length;
+    }
+}
@@ -0,0 +1,43 @@
+package queue;
+
+import java.util.concurrent.locks.LockSupport;
+
+// what a concurrent queue does while it waits for room (offer) or for an element (poll).
+// SPIN has the lowest latency but burns a core, PARK gives the core back at the cost of wake-up latency.
+public enum WaitStrategy {
+
+    // busy spin with a spin-wait hint
+    SPIN {
+        @Override void idle(int attempt){
+            Thread.onSpinWait();
+        }
+    },
+
+    // spin for a while, then yield the core to other threads
+    YIELD {
+        @Override void idle(int attempt){
+            if(attempt < SPIN_TRIES)
+                Thread.onSpinWait();
+            else
+                Thread.yield();
+        }
+    },
+
+    // spin, then yield, then park for short periods
+    PARK {
+        @Override void idle(int attempt){
+            if(attempt < SPIN_TRIES)
+                Thread.onSpinWait();
+            else if(attempt < 2*SPIN_TRIES)
+                Thread.yield();
+            else
+                LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 1000;
+
+    // called once per failed attempt, attempt counts up from 0
+    abstract void idle(int attempt);
+}
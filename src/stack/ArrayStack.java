@@ -0,0 +1,123 @@
+package stack;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Stack on a contiguous array, push/pop don't allocate once the buffer is big enough.
+// reset() empties the stack but keeps the buffer, so one stack can be reused across traversals.
+@SuppressWarnings("unchecked")
+public class ArrayStack <T> implements Iterable<T>{
+    private T[] arr;
+    private int size = 0;
+    private int modCount = 0;
+
+    // create an empty stack
+    public ArrayStack(){
+        this(16);
+    }
+
+    // create an empty stack with room for capacity elements
+    public ArrayStack(int capacity){
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        arr = (T[]) new Object[capacity];
+    }
+
+    // returns the numbers of element in stack
+    public int size(){
+        return size;
+    }
+
+    // checks if the stack is empty or not
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    // push an element on the stack
+    public void push(T elem){
+        if(size == arr.length)
+            grow(size+1);
+        arr[size++] = elem;
+        modCount++;
+    }
+
+    // push all the elements in order, the last one ends up on top, one arraycopy
+    public void pushAll(T[] elems){
+        if(size+elems.length > arr.length)
+            grow(size+elems.length);
+        System.arraycopy(elems, 0, arr, size, elems.length);
+        size += elems.length;
+        modCount++;
+    }
+
+    // pop an element off the stack which throws an error if stack is empty
+    public T pop(){
+        if(isEmpty())
+            throw new EmptyStackException();
+        T elem = arr[--size];
+        arr[size] = null;
+        modCount++;
+        return elem;
+    }
+
+    // pop up to n elements into dst, top of the stack first, returns how many were popped
+    public int popN(T[] dst, int n){
+        if(n < 0)
+            throw new IllegalArgumentException("Illegal count: "+n);
+        n = Math.min(Math.min(n, size), dst.length);
+        for(int i=0; i<n; i++){
+            dst[i] = arr[--size];
+            arr[size] = null;
+        }
+        if(n > 0)
+            modCount++;
+        return n;
+    }
+
+    // peek at the top element of the stack and error if stack is empty
+    public T peek(){
+        if(isEmpty())
+            throw new EmptyStackException();
+        return arr[size-1];
+    }
+
+    // empty the stack but keep the buffer for reuse
+    public void reset(){
+        for(int i=0; i<size; i++)
+            arr[i] = null;
+        size = 0;
+        modCount++;
+    }
+
+    private void grow(int minCapacity){
+        int newCapacity = arr.length==0 ? 1 : arr.length*2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        T[] new_arr = (T[]) new Object[newCapacity];
+        System.arraycopy(arr, 0, new_arr, 0, size);
+        arr = new_arr;
+    }
+
+    // iterates from the bottom of the stack to the top, like Stack
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+            private final int expectedModCount = modCount;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public T next() {
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(index >= size)
+                    throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+}
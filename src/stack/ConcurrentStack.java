@@ -0,0 +1,183 @@
+package stack;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+// Lock-free Treiber stack: top is a single AtomicReference and push/pop are one CAS on it.
+//
+// ABA: every push allocates a fresh node and popped nodes are never reused, so while a thread
+// holds a reference to the old top that node can't be recycled and put back on top by someone
+// else. The garbage collector is what makes the plain CAS on top ABA-safe here.
+//
+// With elimination enabled, a push or pop that loses its CAS backs off into an elimination
+// array instead of retrying straight away. A push and a pop that meet in the same slot hand the
+// element over directly and never touch top, so under heavy contention pairs cancel out.
+//
+// Linearizability: push, pop, peek and isEmpty are linearizable. A successful CAS on top is the
+// linearization point, and an eliminated push/pop pair linearizes at the exchange as a push
+// immediately followed by its pop. size() walks the nodes and is only a snapshot estimate.
+public class ConcurrentStack <T> {
+
+    private static class Node <T>{
+        final T data;
+        Node <T> next;
+        Node(T data){
+            this.data = data;
+        }
+    }
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+    private final EliminationArray<T> elimination;
+
+    // plain Treiber stack
+    public ConcurrentStack(){
+        this(0);
+    }
+
+    // Treiber stack with an elimination array of the given width, 0 turns elimination off
+    public ConcurrentStack(int eliminationWidth){
+        if(eliminationWidth < 0)
+            throw new IllegalArgumentException("Illegal elimination width: "+eliminationWidth);
+        elimination = eliminationWidth==0 ? null : new EliminationArray<>(eliminationWidth);
+    }
+
+    // push an element on the stack, null is not allowed because pop uses it to mean "nothing"
+    public void push(T elem){
+        if(elem==null)
+            throw new IllegalArgumentException("Null elements are not allowed");
+        Node <T> node = new Node<>(elem);
+        while(true){
+            if(tryPush(node))
+                return;
+            if(elimination != null){
+                // a null back means a pop took our element
+                if(elimination.visit(elem)==null)
+                    return;
+            }
+            else
+                Thread.onSpinWait();
+        }
+    }
+
+    // pop an element off the stack, throws if the stack is empty
+    public T pop(){
+        while(true){
+            Node <T> oldTop = top.get();
+            if(oldTop==null)
+                throw new EmptyStackException();
+            if(top.compareAndSet(oldTop, oldTop.next))
+                return oldTop.data;
+            if(elimination != null){
+                // a non-null back is an element handed over by a push
+                T elem = elimination.visit(null);
+                if(elem != null)
+                    return elem;
+            }
+            else
+                Thread.onSpinWait();
+        }
+    }
+
+    // peek at the top element of the stack, throws if the stack is empty
+    public T peek(){
+        Node <T> node = top.get();
+        if(node==null)
+            throw new EmptyStackException();
+        return node.data;
+    }
+
+    // checks if the stack is empty or not
+    public boolean isEmpty(){
+        return top.get()==null;
+    }
+
+    // number of elements, O(n) and not linearizable under concurrent updates
+    public int size(){
+        int count = 0;
+        for(Node <T> trav = top.get(); trav != null; trav = trav.next)
+            count++;
+        return count;
+    }
+
+    private boolean tryPush(Node <T> node){
+        Node <T> oldTop = top.get();
+        node.next = oldTop;
+        return top.compareAndSet(oldTop, node);
+    }
+
+    // a row of exchangers, a thread that lost its CAS picks a random one and waits briefly for a partner
+    private static class EliminationArray <T>{
+        private static final long TIMEOUT_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+        private final Exchanger<T>[] exchangers;
+
+        @SuppressWarnings("unchecked")
+        EliminationArray(int width){
+            exchangers = (Exchanger<T>[]) new Exchanger<?>[width];
+            for(int i=0; i<width; i++)
+                exchangers[i] = new Exchanger<>();
+        }
+
+        // returns the partner's value, or our own value back when there was no useful match.
+        // so a push gets null back only when it met a pop, a pop gets non-null only when it met a push
+        T visit(T value){
+            int slot = ThreadLocalRandom.current().nextInt(exchangers.length);
+            T other = exchangers[slot].exchange(value, TIMEOUT_NANOS);
+            // timed out, or push met push / pop met pop: the exchange doesn't count
+            if(other == Exchanger.TIMED_OUT || (value==null) == (other==null))
+                return value;
+            return other;
+        }
+    }
+
+    // lock-free exchanger: slot state is EMPTY, WAITING (one thread parked an item) or BUSY (a partner answered)
+    private static class Exchanger <T>{
+        static final Object TIMED_OUT = new Object();
+        private static final int EMPTY = 0, WAITING = 1, BUSY = 2;
+        private final AtomicStampedReference<T> slot = new AtomicStampedReference<>(null, EMPTY);
+
+        @SuppressWarnings("unchecked")
+        T exchange(T myItem, long timeoutNanos){
+            long deadline = System.nanoTime()+timeoutNanos;
+            int[] stampHolder = {EMPTY};
+            while(true){
+                if(System.nanoTime()-deadline >= 0)
+                    return (T) TIMED_OUT;
+                T yrItem = slot.get(stampHolder);
+                switch(stampHolder[0]){
+                    case EMPTY:
+                        // offer our item and wait for somebody to answer
+                        if(slot.compareAndSet(yrItem, myItem, EMPTY, WAITING)){
+                            while(System.nanoTime()-deadline < 0){
+                                yrItem = slot.get(stampHolder);
+                                if(stampHolder[0]==BUSY){
+                                    slot.set(null, EMPTY);
+                                    return yrItem;
+                                }
+                                Thread.onSpinWait();
+                            }
+                            // nobody came, take the item back unless a partner sneaks in right now
+                            if(slot.compareAndSet(myItem, null, WAITING, EMPTY))
+                                return (T) TIMED_OUT;
+                            yrItem = slot.get(stampHolder);
+                            slot.set(null, EMPTY);
+                            return yrItem;
+                        }
+                        break;
+                    case WAITING:
+                        // somebody is waiting, answer them
+                        if(slot.compareAndSet(yrItem, myItem, WAITING, BUSY))
+                            return yrItem;
+                        break;
+                    case BUSY:
+                        // two other threads are mid exchange, try again
+                        break;
+                    default:
+                        throw new IllegalStateException();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package stack;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// int specialization of ArrayStack, e.g. the work stack of an iterative DFS over node ids.
+// nothing is boxed and reset() keeps the buffer, so reusing the stack allocates nothing.
+public class IntStack implements Iterable<Integer>{
+    private int[] arr;
+    private int size = 0;
+    private int modCount = 0;
+
+    // create an empty stack
+    public IntStack(){
+        this(16);
+    }
+
+    // create an empty stack with room for capacity elements
+    public IntStack(int capacity){
+        if(capacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: "+capacity);
+        arr = new int[capacity];
+    }
+
+    // returns the numbers of element in stack
+    public int size(){
+        return size;
+    }
+
+    // checks if the stack is empty or not
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    // push an element on the stack
+    public void push(int elem){
+        if(size == arr.length)
+            grow(size+1);
+        arr[size++] = elem;
+        modCount++;
+    }
+
+    // push all the elements in order, the last one ends up on top, one arraycopy
+    public void pushAll(int[] elems){
+        if(size+elems.length > arr.length)
+            grow(size+elems.length);
+        System.arraycopy(elems, 0, arr, size, elems.length);
+        size += elems.length;
+        modCount++;
+    }
+
+    // pop an element off the stack which throws an error if stack is empty
+    public int pop(){
+        if(isEmpty())
+            throw new EmptyStackException();
+        modCount++;
+        return arr[--size];
+    }
+
+    // pop up to n elements into dst, top of the stack first, returns how many were popped
+    public int popN(int[] dst, int n){
+        if(n < 0)
+            throw new IllegalArgumentException("Illegal count: "+n);
+        n = Math.min(Math.min(n, size), dst.length);
+        for(int i=0; i<n; i++)
+            dst[i] = arr[--size];
+        if(n > 0)
+            modCount++;
+        return n;
+    }
+
+    // peek at the top element of the stack and error if stack is empty
+    public int peek(){
+        if(isEmpty())
+            throw new EmptyStackException();
+        return arr[size-1];
+    }
+
+    // empty the stack but keep the buffer for reuse, O(1)
+    public void reset(){
+        size = 0;
+        modCount++;
+    }
+
+    private void grow(int minCapacity){
+        int newCapacity = arr.length==0 ? 1 : arr.length*2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        int[] new_arr = new int[newCapacity];
+        System.arraycopy(arr, 0, new_arr, 0, size);
+        arr = new_arr;
+    }
+
+    // iterates from the bottom of the stack to the top, like Stack
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+            private final int expectedModCount = modCount;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public int nextInt() {
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(index >= size)
+                    throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package doublyLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+// Run with: java doublyLinkedList.ConcurrentDequeTest (throws on the first failed check)
+public class ConcurrentDequeTest {
+
+    public static void main(String[] args){
+        matchesArrayDeque();
+        poppedNodesAreReleased();
+        System.out.println("ConcurrentDequeTest passed");
+    }
+
+    // single threaded, every operation must agree with ArrayDeque
+    private static void matchesArrayDeque(){
+        Random rnd = new Random(42);
+        ConcurrentDeque<Integer> deque = new ConcurrentDeque<>();
+        ArrayDeque<Integer> ref = new ArrayDeque<>();
+        for(int i=0; i<100_000; i++){
+            switch(rnd.nextInt(5)){
+                case 0: deque.addFirst(i); ref.addFirst(i); break;
+                case 1: deque.addLast(i); ref.addLast(i); break;
+                case 2: check(Objects.equals(deque.tryRemoveFirst(), ref.pollFirst()), "tryRemoveFirst"); break;
+                case 3: check(Objects.equals(deque.tryRemoveLast(), ref.pollLast()), "tryRemoveLast"); break;
+                default:
+                    check(Objects.equals(deque.tryPeekFirst(), ref.peekFirst()), "tryPeekFirst");
+                    check(Objects.equals(deque.tryPeekLast(), ref.peekLast()), "tryPeekLast");
+            }
+            check(deque.size() == ref.size(), "size");
+        }
+        List<Integer> seen = new ArrayList<>();
+        deque.forEach(seen::add);
+        check(seen.equals(new ArrayList<>(ref)), "iteration order");
+    }
+
+    // many push/pop rounds with only a few live elements must not keep the popped nodes
+    // reachable: 4M leaked nodes would be well over 100MB of heap
+    private static void poppedNodesAreReleased(){
+        ConcurrentDeque<Integer> deque = new ConcurrentDeque<>();
+        long before = usedAfterGc();
+        for(int i=0; i<3; i++)
+            deque.addLast(i);
+        for(int i=0; i<2_000_000; i++){
+            deque.addLast(i);
+            deque.removeFirst();
+        }
+        for(int i=0; i<2_000_000; i++){
+            deque.addFirst(i);
+            deque.removeLast();
+        }
+        long grown = usedAfterGc()-before;
+        check(deque.size() == 3, "size after churn");
+        check(grown < 32L << 20, "popped nodes are retained, heap grew by "+(grown >> 20)+"MB");
+    }
+
+    private static long usedAfterGc(){
+        Runtime rt = Runtime.getRuntime();
+        for(int i=0; i<3; i++)
+            System.gc();
+        return rt.totalMemory()-rt.freeMemory();
+    }
+
+    private static void check(boolean ok, String what){
+        if(!ok)
+            throw new AssertionError(what);
+    }
+}
@@ -0,0 +1,53 @@
+package priorityQueue;
+
+import java.util.List;
+
+// Run with: java priorityQueue.WindowedTopKTest (throws on the first failed check)
+public class WindowedTopKTest {
+
+    public static void main(String[] args){
+        keepsTheLargestInTheWindow();
+        lateEventDoesNotWipeTheWindow();
+        negativeTimestamps();
+        System.out.println("WindowedTopKTest passed");
+    }
+
+    // window of 1000ms in 10 buckets of 100ms
+    private static void keepsTheLargestInTheWindow(){
+        WindowedTopK<Integer> top = new WindowedTopK<>(2, 1000, 10);
+        top.offer(5, 0);
+        top.offer(7, 150);
+        top.offer(3, 950);
+        check(top.topK(999).equals(List.of(7, 5)), "all in window");
+        // at 1100 the buckets of slots 0 and 1 are out, only 3 is left
+        check(top.topK(1100).equals(List.of(3)), "expired buckets");
+    }
+
+    // an out-of-order timestamp that maps to the ring position of a live bucket must be
+    // dropped instead of clearing that bucket
+    private static void lateEventDoesNotWipeTheWindow(){
+        WindowedTopK<Integer> top = new WindowedTopK<>(3, 1000, 10);
+        top.offer(10, 5_000);
+        top.offer(20, 5_050);
+        // slot 40 shares the ring position of slot 50 but is 1000ms behind the newest event
+        check(!top.offer(99, 4_000), "late event accepted");
+        check(top.topK(5_050).equals(List.of(20, 10)), "late event wiped the window: "+top.topK(5_050));
+        // a slightly late event that is still inside the window is kept
+        check(top.offer(15, 4_500), "in-window late event dropped");
+        check(top.topK(5_050).equals(List.of(20, 15, 10)), "in-window late event");
+        // a query for an earlier time doesn't see the later buckets
+        check(top.topK(4_500).equals(List.of(15)), "future buckets included");
+    }
+
+    private static void negativeTimestamps(){
+        WindowedTopK<Integer> top = new WindowedTopK<>(3, 1000, 10);
+        top.offer(1, -550);
+        top.offer(2, -50);
+        check(top.topK(-10).equals(List.of(2, 1)), "negative timestamps");
+    }
+
+    private static void check(boolean ok, String what){
+        if(!ok)
+            throw new AssertionError(what);
+    }
+}
@@ -0,0 +1,71 @@
+package stack;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+// Run with: java stack.PopNTest (throws on the first failed check)
+public class PopNTest {
+
+    public static void main(String[] args){
+        arrayStack();
+        intStack();
+        longStack();
+        System.out.println("PopNTest passed");
+    }
+
+    private static void arrayStack(){
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        for(int i=1; i<=5; i++)
+            stack.push(i);
+        Integer[] dst = new Integer[3];
+        check(stack.popN(dst, 2) == 2 && dst[0] == 5 && dst[1] == 4, "pops top first");
+        // a negative count is rejected and leaves the stack (and its iterators) alone
+        Iterator<Integer> it = stack.iterator();
+        checkThrows(() -> stack.popN(dst, -1), "negative count");
+        check(stack.popN(dst, 0) == 0, "zero count");
+        check(stack.size() == 3, "size after no-op popN");
+        it.next();
+        // clamped to the stack size and to dst.length
+        check(stack.popN(new Integer[10], 10) == 3 && stack.isEmpty(), "clamped to size");
+        check(stack.popN(dst, 1) == 0, "popN on an empty stack");
+    }
+
+    private static void intStack(){
+        IntStack stack = new IntStack();
+        stack.pushAll(new int[]{1, 2, 3, 4, 5});
+        int[] dst = new int[2];
+        PrimitiveIterator.OfInt it = stack.iterator();
+        checkThrows(() -> stack.popN(dst, -1), "negative count");
+        check(stack.popN(dst, 0) == 0, "zero count");
+        it.nextInt();
+        check(stack.popN(dst, 5) == 2 && Arrays.equals(dst, new int[]{5, 4}), "clamped to dst.length");
+        check(stack.size() == 3, "size");
+    }
+
+    private static void longStack(){
+        LongStack stack = new LongStack();
+        stack.pushAll(new long[]{1, 2, 3});
+        long[] dst = new long[4];
+        PrimitiveIterator.OfLong it = stack.iterator();
+        checkThrows(() -> stack.popN(dst, -1), "negative count");
+        check(stack.popN(dst, 0) == 0, "zero count");
+        it.nextLong();
+        check(stack.popN(dst, 4) == 3 && dst[0] == 3 && dst[2] == 1 && stack.isEmpty(), "clamped to size");
+    }
+
+    private static void checkThrows(Runnable action, String what){
+        try{
+            action.run();
+        }
+        catch(IllegalArgumentException e){
+            return;
+        }
+        throw new AssertionError(what+": expected IllegalArgumentException");
+    }
+
+    private static void check(boolean ok, String what){
+        if(!ok)
+            throw new AssertionError(what);
+    }
+}